@@ -27,6 +27,7 @@ import static org.opencypher.gremlin.extension.CypherBindingType.STRING;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Supplier;
+import java.util.stream.LongStream;
 
 public final class TestProcedures implements Supplier<CypherProcedureDefinition> {
 
@@ -75,6 +76,15 @@ public final class TestProcedures implements Supplier<CypherProcedureDefinition>
             }
         );
 
+        procedures.defineStreaming(
+            "test.range",
+            singletonList(binding("n", INTEGER)),
+            singletonList(binding("i", INTEGER)),
+            arguments -> LongStream.range(0, (long) arguments.get("n"))
+                .mapToObj(i -> singletonMap("i", (Object) i))
+                .iterator()
+        );
+
         procedures.define(
             "test.void",
             emptyList(),
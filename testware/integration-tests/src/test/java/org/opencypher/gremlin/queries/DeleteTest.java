@@ -376,6 +376,23 @@ public class DeleteTest {
             .isEmpty();
     }
 
+    @Test
+    public void detachDeleteInBatches() {
+        submitAndGet("UNWIND range(1, 2500) AS i CREATE (:Temp {i: i})-[:R]->(:Temp {i: -i})");
+        List<Map<String, Object>> onDelete = submitAndGet(
+            "MATCH (n:Temp) DETACH DELETE n"
+        );
+        List<Map<String, Object>> afterDelete = submitAndGet(
+            "MATCH (n:Temp) RETURN count(*)"
+        );
+
+        assertThat(onDelete)
+            .isEmpty();
+        assertThat(afterDelete)
+            .extracting("count(*)")
+            .containsExactly(0L);
+    }
+
     @Test
     public void deleteConnectedNodeAndRelationship() {
         List<Map<String, Object>> beforeDelete = submitAndGet(
@@ -246,4 +246,28 @@ public class MatchTest {
             .extracting("i.name")
             .containsExactlyInAnyOrder("marko", "lop", "josh");
     }
+
+    @Test
+    public void continueFromBoundNode() {
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (p:person {name: 'josh'}) WITH p " +
+                "MATCH (s:software {name: 'lop'})<-[:created]-(p) " +
+                "RETURN s.name"
+        );
+
+        assertThat(results)
+            .extracting("s.name")
+            .containsExactly("lop");
+    }
+
+    @Test
+    public void continueFromNullBoundNode() {
+        List<Map<String, Object>> results = submitAndGet(
+            "OPTIONAL MATCH (p:person {name: 'nobody'}) WITH p " +
+                "MATCH (p)-[:knows]->(f) " +
+                "RETURN f.name"
+        );
+
+        assertThat(results).isEmpty();
+    }
 }
@@ -259,4 +259,22 @@ public class MergeTest {
             .containsExactly(42L);
     }
 
+    @Test
+    @Category(SkipWithCosmosDB.TraversalInProperty.class)
+    public void unwindMerge() throws Exception {
+        submitAndGet("CREATE (:N {value: 1})");
+        submitAndGet("UNWIND [1, 2, 2, 3] AS i MERGE (n:N {value: i}) ON MATCH SET n.matched = true");
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (n:N) RETURN n.value, n.matched ORDER BY n.value"
+        );
+
+        assertThat(results)
+            .extracting("n.value", "n.matched")
+            .containsExactly(
+                tuple(1L, true),
+                tuple(2L, true),
+                tuple(3L, null)
+            );
+    }
+
 }
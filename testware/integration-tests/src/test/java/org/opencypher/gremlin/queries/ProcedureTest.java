@@ -20,6 +20,7 @@ import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.util.List;
 import java.util.Map;
@@ -192,4 +193,41 @@ public class ProcedureTest {
             .flatExtracting(Map::values)
             .containsExactly("foo", "bar");
     }
+
+    @Test
+    public void callFailsOnWrongTypeAtTranslation() {
+        CypherAst ast = CypherAst.parse("CALL test.inc('a')", emptyMap(), procedureContext.getSignatures());
+
+        Throwable throwable = catchThrowable(() -> ast.translate(flavor, procedureContext));
+
+        assertThat(throwable)
+            .hasMessageContaining("Invalid argument types for test.inc");
+    }
+
+    @Test
+    public void callFailsOnWrongNumberOfArgumentsAtTranslation() {
+        CypherAst ast = CypherAst.parse("CALL test.inc(1, 2)", emptyMap(), procedureContext.getSignatures());
+
+        Throwable throwable = catchThrowable(() -> ast.translate(flavor, procedureContext));
+
+        assertThat(throwable)
+            .hasMessageContaining("Invalid number of arguments for test.inc");
+    }
+
+    @Test
+    public void callStreaming() {
+        List<Map<String, Object>> results = submitAndGet(
+            "UNWIND [1, 2] AS n " +
+                "CALL test.range(n) YIELD i " +
+                "RETURN n, i"
+        );
+
+        assertThat(results)
+            .extracting("n", "i")
+            .containsExactlyInAnyOrder(
+                tuple(1L, 0L),
+                tuple(2L, 0L),
+                tuple(2L, 1L)
+            );
+    }
 }
@@ -266,4 +266,44 @@ public class VariableLengthPathTest {
                 newArrayList("a", "knows", "b", "knows", "b")
             );
     }
+
+    @Test
+    public void reachabilityThroughLongerPathFirst() throws Exception {
+        submitAndGet(TestCommons.DELETE_ALL);
+        submitAndGet("CREATE (a:a)-[:R]->(:x)-[:R]->(:x)-[:R]->(m:m)-[:R]->(:t) " +
+            "CREATE (a)-[:R]->(m)");
+
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (a:a), (t:t) WHERE (a)-[:R*..3]->(t) RETURN count(*) AS count");
+
+        assertThat(results)
+            .extracting("count")
+            .containsExactly(1L);
+    }
+
+    @Test
+    public void undirectedReachabilityOverSingleEdge() throws Exception {
+        submitAndGet(TestCommons.DELETE_ALL);
+        submitAndGet("CREATE (:a)-[:R]->(:b)");
+
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (a:a) WHERE (a)-[:R*]-(a) RETURN count(*) AS count");
+
+        assertThat(results)
+            .extracting("count")
+            .containsExactly(0L);
+    }
+
+    @Test
+    public void undirectedReachabilityOverCycle() throws Exception {
+        submitAndGet(TestCommons.DELETE_ALL);
+        submitAndGet("CREATE (a:a)-[:R]->(:b)-[:R]->(:c)-[:R]->(a)");
+
+        List<Map<String, Object>> results = submitAndGet(
+            "MATCH (a:a), (b) WHERE (a)-[:R*]-(b) RETURN count(*) AS count");
+
+        assertThat(results)
+            .extracting("count")
+            .containsExactly(3L);
+    }
 }
@@ -16,6 +16,7 @@
 package org.opencypher.gremlin.snippets;
 
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.google.common.collect.Lists;
@@ -23,6 +24,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -44,6 +47,7 @@ import org.junit.ClassRule;
 import org.junit.Test;
 import org.opencypher.gremlin.client.CypherGremlinClient;
 import org.opencypher.gremlin.client.CypherResultSet;
+import org.opencypher.gremlin.client.CypherTranslationCache;
 import org.opencypher.gremlin.client.CypherTraversalSource;
 import org.opencypher.gremlin.client.GremlinClientFactory;
 import org.opencypher.gremlin.rules.GremlinServerExternalResource;
@@ -191,6 +195,28 @@ public class CypherGremlinServerClientSnippets {
             .containsExactly("marko", "vadas", "josh", "peter");
     }
 
+    @Test
+    public void translationCache() {
+        Client gremlinClient = GremlinClientFactory.create(gremlinServer.getPort());
+
+        // freshReadmeSnippet: translationCache
+        CypherTranslationCache translationCache = new CypherTranslationCache(1000);
+        CypherGremlinClient cypherGremlinClient = CypherGremlinClient.translating(
+            gremlinClient,
+            TranslatorFlavor.gremlinServer(),
+            translationCache
+        );
+        // freshReadmeSnippet: translationCache
+
+        String cypher = "MATCH (p:person) WHERE p.age > $age RETURN p.name";
+        cypherGremlinClient.submit(cypher, singletonMap("age", 25)).all();
+        List<Map<String, Object>> results = cypherGremlinClient.submit(cypher, singletonMap("age", 30)).all();
+        assertThat(results)
+            .extracting("p.name")
+            .containsExactly("josh", "peter");
+        assertThat(translationCache.stats().hitCount()).isEqualTo(1);
+    }
+
     @Test
     public void neptune() {
         Client gremlinClient = GremlinClientFactory.create(gremlinServer.getPort());
@@ -229,6 +255,24 @@ public class CypherGremlinServerClientSnippets {
             .containsExactly("marko", "vadas", "josh", "peter");
     }
 
+    @Test
+    public void cosmosDbPrefetch() {
+        Client gremlinClient = GremlinClientFactory.create(gremlinServer.getPort());
+
+        // freshReadmeSnippet: cosmosdbPrefetch
+        CypherGremlinClient cypherGremlinClient = CypherGremlinClient.retrieving(
+            gremlinClient,
+            TranslatorFlavor.cosmosDb(),
+            100
+        );
+        // freshReadmeSnippet: cosmosdbPrefetch
+
+        List<Map<String, Object>> results = cypherGremlinClient.submit("MATCH (p:person) WHERE p.age > 25 RETURN p.name").all();
+        assertThat(results)
+            .extracting("p.name")
+            .containsExactly("marko", "vadas", "josh", "peter");
+    }
+
     @Test
     public void inMemory() {
         // freshReadmeSnippet: inMemory
@@ -244,6 +288,28 @@ public class CypherGremlinServerClientSnippets {
             .containsExactly("marko", "vadas", "josh", "peter");
     }
 
+    @Test
+    public void inMemoryStreaming() throws Exception {
+        TinkerGraph graph = TinkerFactory.createModern();
+        GraphTraversalSource traversal = graph.traversal();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // freshReadmeSnippet: inMemoryStreaming
+        CypherGremlinClient cypherGremlinClient = CypherGremlinClient.inMemory(traversal, executor);
+        String cypher = "MATCH (p:person) RETURN p.name ORDER BY p.name";
+        CompletableFuture<CypherResultSet> future = cypherGremlinClient.submitAsync(cypher);
+        List<Map<String, Object>> results;
+        try (Stream<Map<String, Object>> stream = future.get().stream()) {
+            results = stream.limit(2).collect(Collectors.toList());
+        }
+        // freshReadmeSnippet: inMemoryStreaming
+
+        executor.shutdown();
+        assertThat(results)
+            .extracting("p.name")
+            .containsExactly("josh", "marko");
+    }
+
     @Test
     public void cypherTraversalSource() {
         TinkerGraph graph = TinkerFactory.createModern();
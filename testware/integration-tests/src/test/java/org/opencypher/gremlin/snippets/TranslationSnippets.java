@@ -28,6 +28,7 @@ import org.opencypher.gremlin.translation.groovy.GroovyGremlinBindings;
 import org.opencypher.gremlin.translation.groovy.GroovyGremlinPredicates;
 import org.opencypher.gremlin.translation.groovy.GroovyGremlinSteps;
 import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
+import org.opencypher.gremlin.translation.translator.GraphStatistics;
 import org.opencypher.gremlin.translation.translator.Translator;
 import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
 
@@ -85,6 +86,26 @@ public class TranslationSnippets {
         assertThat(gremlin).isEqualTo("g.V()");
     }
 
+    @Test
+    public void translatorStatistics() throws Exception {
+        // freshReadmeSnippet: statistics
+        GraphStatistics statistics = GraphStatistics.builder()
+            .labelCount("Person", 1_000_000)
+            .labelCount("City", 100)
+            .indexedKeys("email")
+            .build();
+
+        Translator<String, GroovyPredicate> translator = Translator.builder()
+            .gremlinGroovy()
+            .withStatistics(statistics)
+            .build();
+        // freshReadmeSnippet: statistics
+
+        String cypher = "MATCH (p:Person)-[:LIVES_IN]->(c:City) RETURN p, c";
+        String gremlin = CypherAst.parse(cypher).buildTranslation(translator);
+        assertThat(gremlin).startsWith("g.V().as('c')");
+    }
+
     @Test
     public void translatorNeptune() throws Exception {
         // freshReadmeSnippet: neptune
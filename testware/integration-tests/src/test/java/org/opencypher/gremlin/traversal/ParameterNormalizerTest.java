@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.traversal;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.opencypher.gremlin.translation.Tokens;
+
+public class ParameterNormalizerTest {
+
+    @Test
+    public void normalizeValues() {
+        Map<Object, Object> nested = new HashMap<>();
+        nested.put(1, new BigDecimal("1.5"));
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("i", 1);
+        parameters.put("n", null);
+        parameters.put("m", nested);
+        parameters.put("l", asList(1L, 2));
+
+        Map<String, Object> normalized = ParameterNormalizer.normalize(parameters);
+
+        assertThat(normalized)
+            .isNotSameAs(parameters)
+            .containsEntry("i", 1L)
+            .containsEntry("n", Tokens.NULL)
+            .containsEntry("m", singletonMap("1", 1.5))
+            .containsEntry("l", asList(1L, 2L));
+        assertThat(parameters).containsEntry("i", 1);
+        assertThat(nested).containsEntry(1, new BigDecimal("1.5"));
+    }
+
+    @Test
+    public void reuseNormalized() {
+        List<Object> rows = new ArrayList<>();
+        for (long i = 0; i < 10; i++) {
+            rows.add(singletonMap("id", i));
+        }
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("rows", rows);
+        parameters.put("name", "name");
+
+        Map<String, Object> normalized = ParameterNormalizer.normalize(parameters);
+
+        assertThat(normalized).isSameAs(parameters);
+        assertThat(normalized.get("rows")).isSameAs(rows);
+    }
+
+    @Test
+    public void copyChangedOnly() {
+        List<Object> unchanged = asList(1L, 2L);
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("unchanged", unchanged);
+        parameters.put("changed", asList(1L, 2));
+
+        Map<String, Object> normalized = ParameterNormalizer.normalize(parameters);
+
+        assertThat(normalized.keySet()).containsExactly("unchanged", "changed");
+        assertThat(normalized.get("unchanged")).isSameAs(unchanged);
+        assertThat(normalized.get("changed")).isEqualTo(asList(1L, 2L));
+    }
+
+    @Test
+    public void normalizeInPlace() {
+        List<Object> list = new ArrayList<>(asList(1, 2L));
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("i", 1);
+        parameters.put("l", list);
+
+        Map<String, Object> normalized = ParameterNormalizer.normalizeInPlace(parameters);
+
+        assertThat(normalized).isSameAs(parameters);
+        assertThat(normalized.get("l")).isSameAs(list);
+        assertThat(list).containsExactly(1L, 2L);
+        assertThat(parameters).containsEntry("i", 1L);
+    }
+
+    @Test
+    public void normalizeInPlaceImmutable() {
+        List<Object> list = unmodifiableList(asList(1, 2L));
+        Map<String, Object> parameters = unmodifiableMap(singletonMap("l", list));
+
+        Map<String, Object> normalized = ParameterNormalizer.normalizeInPlace(parameters);
+
+        assertThat(normalized)
+            .isNotSameAs(parameters)
+            .containsEntry("l", asList(1L, 2L));
+        assertThat(list).containsExactly(1, 2L);
+    }
+
+    @Test
+    public void primitiveArrays() {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("longs", new long[]{1, 2});
+        parameters.put("ints", new int[]{3});
+        parameters.put("doubles", new double[]{1.5});
+
+        Map<String, Object> normalized = ParameterNormalizer.normalize(parameters);
+
+        assertThat(normalized)
+            .containsEntry("longs", asList(1L, 2L))
+            .containsEntry("ints", asList(3L))
+            .containsEntry("doubles", asList(1.5));
+    }
+}
@@ -15,9 +15,16 @@
  */
 package org.opencypher.gremlin.traversal;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.opencypher.gremlin.translation.ReturnProperties.ID;
 
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.apache.tinkerpop.gremlin.structure.T;
@@ -25,6 +32,8 @@ import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
 import org.junit.Before;
 import org.junit.Test;
 import org.opencypher.gremlin.client.CypherGremlinClient;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.Tokens;
 
 public class ReturnNormalizerTest {
 
@@ -59,4 +68,95 @@ public class ReturnNormalizerTest {
             .extracting("id")
             .containsExactly(id);
     }
+
+    @Test
+    public void normalizeTypedColumns() {
+        ReturnNormalizer normalizer = returnNormalizer("RETURN 1 AS i, [1, 2] AS l, null AS n");
+        Map<String, Object> row = new HashMap<>();
+        row.put("i", 1);
+        row.put("l", asList(1, 2));
+        row.put("n", Tokens.NULL);
+
+        Map<String, Object> normalized = normalizer.normalize(row);
+
+        assertThat(normalized)
+            .isNotSameAs(row)
+            .containsEntry("i", 1L)
+            .containsEntry("l", asList(1L, 2L))
+            .containsEntry("n", null);
+        assertThat(row).containsEntry("i", 1);
+    }
+
+    @Test
+    public void normalizeInPlace() {
+        ReturnNormalizer normalizer = returnNormalizer("RETURN 1 AS i, [1, 2] AS l");
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("l", asList(1, 2));
+        row.put("i", 1);
+
+        Map<String, Object> normalized = normalizer.normalizeInPlace(row);
+
+        assertThat(normalized)
+            .isSameAs(row)
+            .containsExactly(entry("l", asList(1L, 2L)), entry("i", 1L));
+    }
+
+    @Test
+    public void normalizeRowsIntoNewMaps() {
+        ReturnNormalizer normalizer = returnNormalizer("RETURN [1] AS l, null AS n");
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("l", singletonList(1));
+        row.put("n", Tokens.NULL);
+
+        Iterator<?> normalized = normalizer.normalize(singletonList(row).iterator());
+
+        assertThat(normalized.next())
+            .isNotSameAs(row)
+            .isEqualTo(expectedRow(singletonList(1L), null));
+        assertThat(row).containsExactly(entry("l", singletonList(1)), entry("n", Tokens.NULL));
+    }
+
+    @Test
+    public void distinctNullColumn() {
+        graph.addVertex();
+        graph.addVertex();
+        graph.addVertex();
+        List<Map<String, Object>> results = client.submit("MATCH (n) RETURN DISTINCT n.missing AS m").all();
+
+        assertThat(results).containsExactly(singletonMap("m", null));
+    }
+
+    @Test
+    public void distinctNodeColumn() {
+        graph.addVertex("A");
+        graph.addVertex("B");
+        List<Map<String, Object>> results = client.submit("MATCH (n), (m) RETURN DISTINCT n").all();
+
+        assertThat(results).hasSize(2);
+    }
+
+    @Test
+    public void unionNullAndNodeColumns() {
+        graph.addVertex("A");
+        graph.addVertex("B");
+        List<Map<String, Object>> results = client.submit(
+            "MATCH (n) RETURN n, n.missing AS m " +
+                "UNION " +
+                "MATCH (n) RETURN n, n.missing AS m"
+        ).all();
+
+        assertThat(results).hasSize(2);
+        assertThat(results).extracting("m").containsOnly((Object) null);
+    }
+
+    private static Map<String, Object> expectedRow(Object l, Object n) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("l", l);
+        row.put("n", n);
+        return row;
+    }
+
+    private static ReturnNormalizer returnNormalizer(String cypher) {
+        return ReturnNormalizer.create(CypherAst.parse(cypher).getReturnTypes());
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.traversal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Step;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerFactory;
+import org.junit.Before;
+import org.junit.Test;
+import org.opencypher.gremlin.client.CypherGremlinClient;
+
+public class TopKStrategyTest {
+
+    private GraphTraversalSource g;
+    private GraphTraversalSource topK;
+
+    @Before
+    public void setUp() {
+        g = TinkerFactory.createModern().traversal();
+        topK = g.withStrategies(TopKStrategy.instance());
+    }
+
+    @Test
+    public void replaceOrderLimit() {
+        GraphTraversal<?, ?> traversal = topK.V().order().by("name").limit(2);
+        traversal.asAdmin().applyStrategies();
+
+        List<Step> steps = traversal.asAdmin().getSteps();
+        assertThat(steps).hasAtLeastOneElementOfType(TopKStep.class);
+        assertThat(steps).filteredOn(OrderGlobalStep.class::isInstance).isEmpty();
+    }
+
+    @Test
+    public void keepUnboundedOrder() {
+        GraphTraversal<?, ?> traversal = topK.V().order().by("name").skip(2);
+        traversal.asAdmin().applyStrategies();
+
+        assertThat(traversal.asAdmin().getSteps())
+            .hasAtLeastOneElementOfType(OrderGlobalStep.class);
+    }
+
+    @Test
+    public void limit() {
+        assertThat(topK.V().hasLabel("person").order().by("age", Order.desc).by("name").limit(3).values("name").toList())
+            .isEqualTo(g.V().hasLabel("person").order().by("age", Order.desc).by("name").limit(3).values("name").toList());
+    }
+
+    @Test
+    public void range() {
+        assertThat(topK.V().order().by("name").range(1, 4).values("name").toList())
+            .isEqualTo(g.V().order().by("name").range(1, 4).values("name").toList());
+    }
+
+    @Test
+    public void bulkedTraversers() {
+        assertThat(topK.V().out().barrier().order().by("name").range(1, 3).values("name").toList())
+            .isEqualTo(g.V().out().barrier().order().by("name").range(1, 3).values("name").toList());
+    }
+
+    @Test
+    public void cypherOrderBySkipLimit() {
+        CypherGremlinClient client = CypherGremlinClient.inMemory(g);
+        List<Map<String, Object>> results = client.submit(
+            "MATCH (n:person) RETURN n.age AS age ORDER BY age DESC SKIP 1 LIMIT 2"
+        ).all();
+
+        assertThat(results)
+            .extracting("age")
+            .containsExactly(32L, 29L);
+    }
+}
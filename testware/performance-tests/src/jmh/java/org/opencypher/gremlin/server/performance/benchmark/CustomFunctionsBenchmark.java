@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.performance.benchmark;
+
+import static java.util.Arrays.asList;
+
+import java.util.function.Function;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.B_O_Traverser;
+import org.opencypher.gremlin.traversal.CustomFunctions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-row cost of custom functions, comparing generic implementations
+ * with their type-specialized variants.
+ */
+@State(Scope.Thread)
+public class CustomFunctionsBenchmark {
+
+    private final Function<Traverser, Object> toInteger = CustomFunctions.cypherToInteger();
+    private final Function<Traverser, Object> numberToInteger = CustomFunctions.cypherNumberToInteger();
+    private final Function<Traverser, Object> toFloat = CustomFunctions.cypherToFloat();
+    private final Function<Traverser, Object> numberToFloat = CustomFunctions.cypherNumberToFloat();
+    private final Function<Traverser, Object> toStringValue = CustomFunctions.cypherToString();
+    private final Function<Traverser, Object> plus = CustomFunctions.cypherPlus();
+    private final Function<Traverser, Object> floatPlus = CustomFunctions.cypherFloatPlus();
+    private final Function<Traverser, Object> stringPlus = CustomFunctions.cypherStringPlus();
+    private final Function<Traverser, Object> containerIndex = CustomFunctions.cypherContainerIndex();
+    private final Function<Traverser, Object> listIndex = CustomFunctions.cypherListIndex();
+    private final Function<Traverser, Object> listSlice = CustomFunctions.cypherListSlice();
+    private final Function<Traverser, Object> size = CustomFunctions.cypherSize();
+    private final Function<Traverser, Object> stringSize = CustomFunctions.cypherStringSize();
+
+    private Traverser longValue;
+    private Traverser doubleValue;
+    private Traverser stringValue;
+    private Traverser floatOperands;
+    private Traverser stringOperands;
+    private Traverser listAndIndex;
+    private Traverser listAndRange;
+    private Traverser list;
+
+    @Setup
+    public void setup() {
+        longValue = traverser(42L);
+        doubleValue = traverser(42.5);
+        stringValue = traverser("42");
+        floatOperands = traverser(asList(1.5, 2L));
+        stringOperands = traverser(asList("foo", "bar"));
+        listAndIndex = traverser(asList(asList(1L, 2L, 3L, 4L, 5L), -2L));
+        listAndRange = traverser(asList(asList(1L, 2L, 3L, 4L, 5L), 1L, -1L));
+        list = traverser(asList(1L, 2L, 3L, 4L, 5L));
+    }
+
+    private static Traverser traverser(Object value) {
+        return new B_O_Traverser<>(value, 1);
+    }
+
+    @Benchmark
+    public Object toIntegerFromLong() {
+        return toInteger.apply(longValue);
+    }
+
+    @Benchmark
+    public Object toIntegerFromDouble() {
+        return toInteger.apply(doubleValue);
+    }
+
+    @Benchmark
+    public Object toIntegerFromString() {
+        return toInteger.apply(stringValue);
+    }
+
+    @Benchmark
+    public Object numberToIntegerFromDouble() {
+        return numberToInteger.apply(doubleValue);
+    }
+
+    @Benchmark
+    public Object toFloatFromLong() {
+        return toFloat.apply(longValue);
+    }
+
+    @Benchmark
+    public Object toFloatFromString() {
+        return toFloat.apply(stringValue);
+    }
+
+    @Benchmark
+    public Object numberToFloatFromLong() {
+        return numberToFloat.apply(longValue);
+    }
+
+    @Benchmark
+    public Object toStringFromDouble() {
+        return toStringValue.apply(doubleValue);
+    }
+
+    @Benchmark
+    public Object plusFloats() {
+        return plus.apply(floatOperands);
+    }
+
+    @Benchmark
+    public Object floatPlusFloats() {
+        return floatPlus.apply(floatOperands);
+    }
+
+    @Benchmark
+    public Object plusStrings() {
+        return plus.apply(stringOperands);
+    }
+
+    @Benchmark
+    public Object stringPlusStrings() {
+        return stringPlus.apply(stringOperands);
+    }
+
+    @Benchmark
+    public Object containerIndexList() {
+        return containerIndex.apply(listAndIndex);
+    }
+
+    @Benchmark
+    public Object listIndexList() {
+        return listIndex.apply(listAndIndex);
+    }
+
+    @Benchmark
+    public Object listSliceList() {
+        return listSlice.apply(listAndRange);
+    }
+
+    @Benchmark
+    public Object sizeList() {
+        return size.apply(list);
+    }
+
+    @Benchmark
+    public Object sizeString() {
+        return size.apply(stringValue);
+    }
+
+    @Benchmark
+    public Object stringSizeString() {
+        return stringSize.apply(stringValue);
+    }
+}
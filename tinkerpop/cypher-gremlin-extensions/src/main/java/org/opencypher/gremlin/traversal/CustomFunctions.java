@@ -27,7 +27,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
@@ -46,102 +45,148 @@ public final class CustomFunctions {
     public static Function<Traverser, Object> cypherToString() {
         return traverser -> {
             Object arg = tokenToNull(traverser.get());
-            boolean valid = arg == null ||
-                arg instanceof Boolean ||
-                arg instanceof Number ||
-                arg instanceof String;
-            if (!valid) {
-                String className = arg.getClass().getName();
-                throw new TypeException("Cannot convert " + className + " to string");
-            }
-
-            return Optional.ofNullable(arg)
-                .map(String::valueOf)
-                .orElse(Tokens.NULL);
+            if (arg == null) {
+                return Tokens.NULL;
+            }
+            if (arg instanceof String) {
+                return arg;
+            }
+            if (arg instanceof Boolean || arg instanceof Number) {
+                return String.valueOf(arg);
+            }
+            String className = arg.getClass().getName();
+            throw new TypeException("Cannot convert " + className + " to string");
         };
     }
 
     public static Function<Traverser, Object> cypherToBoolean() {
         return traverser -> {
             Object arg = tokenToNull(traverser.get());
-            boolean valid = arg == null ||
-                arg instanceof Boolean ||
-                arg instanceof String;
-            if (!valid) {
-                String className = arg.getClass().getName();
-                throw new TypeException("Cannot convert " + className + " to boolean");
-            }
-
-            return Optional.ofNullable(arg)
-                .map(String::valueOf)
-                .map(v -> {
-                    switch (v.toLowerCase()) {
-                        case "true":
-                            return true;
-                        case "false":
-                            return false;
-                        default:
-                            return Tokens.NULL;
-                    }
-                })
-                .orElse(Tokens.NULL);
+            if (arg == null) {
+                return Tokens.NULL;
+            }
+            if (arg instanceof Boolean) {
+                return arg;
+            }
+            if (arg instanceof String) {
+                switch (((String) arg).toLowerCase()) {
+                    case "true":
+                        return true;
+                    case "false":
+                        return false;
+                    default:
+                        return Tokens.NULL;
+                }
+            }
+            String className = arg.getClass().getName();
+            throw new TypeException("Cannot convert " + className + " to boolean");
         };
     }
 
     public static Function<Traverser, Object> cypherToInteger() {
         return traverser -> {
             Object arg = tokenToNull(traverser.get());
-            boolean valid = arg == null ||
-                arg instanceof Number ||
-                arg instanceof String;
-            if (!valid) {
-                String className = arg.getClass().getName();
-                throw new TypeException("Cannot convert " + className + " to integer");
-            }
-
-            return nullToToken(
-                Optional.ofNullable(arg)
-                    .map(String::valueOf)
-                    .map(v -> {
-                        try {
-                            return Long.valueOf(v);
-                        } catch (NumberFormatException e1) {
-                            try {
-                                return Double.valueOf(v).longValue();
-                            } catch (NumberFormatException e2) {
-                                return null;
-                            }
-                        }
-                    })
-                    .orElse(null));
+            if (arg == null) {
+                return Tokens.NULL;
+            }
+            if (arg instanceof Number) {
+                return nullToToken(numberToInteger((Number) arg));
+            }
+            if (arg instanceof String) {
+                return nullToToken(parseInteger((String) arg));
+            }
+            String className = arg.getClass().getName();
+            throw new TypeException("Cannot convert " + className + " to integer");
+        };
+    }
+
+    /**
+     * Specialization of {@link #cypherToInteger()} for arguments known to be numbers.
+     */
+    public static Function<Traverser, Object> cypherNumberToInteger() {
+        return traverser -> {
+            Object arg = traverser.get();
+            if (Tokens.NULL.equals(arg)) {
+                return Tokens.NULL;
+            }
+            return nullToToken(numberToInteger((Number) arg));
         };
     }
 
     public static Function<Traverser, Object> cypherToFloat() {
         return traverser -> {
             Object arg = tokenToNull(traverser.get());
-            boolean valid = arg == null ||
-                arg instanceof Number ||
-                arg instanceof String;
-            if (!valid) {
-                String className = arg.getClass().getName();
-                throw new TypeException("Cannot convert " + className + " to float");
-            }
-
-            return nullToToken(
-                Optional.ofNullable(arg)
-                    .map(String::valueOf)
-                    .map(v -> {
-                        try {
-                            return Double.valueOf(v);
-                        } catch (NumberFormatException e) {
-                            return null;
-                        }
-                    })
-                    .orElse(null));
+            if (arg == null) {
+                return Tokens.NULL;
+            }
+            if (arg instanceof Number) {
+                return nullToToken(numberToFloat((Number) arg));
+            }
+            if (arg instanceof String) {
+                return nullToToken(parseFloat((String) arg));
+            }
+            String className = arg.getClass().getName();
+            throw new TypeException("Cannot convert " + className + " to float");
         };
     }
 
+    /**
+     * Specialization of {@link #cypherToFloat()} for arguments known to be numbers.
+     */
+    public static Function<Traverser, Object> cypherNumberToFloat() {
+        return traverser -> {
+            Object arg = traverser.get();
+            if (Tokens.NULL.equals(arg)) {
+                return Tokens.NULL;
+            }
+            return nullToToken(numberToFloat((Number) arg));
+        };
+    }
+
+    private static Long numberToInteger(Number number) {
+        if (number instanceof Long) {
+            return (Long) number;
+        }
+        if (number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return number.longValue();
+        }
+        if (number instanceof Double || number instanceof Float) {
+            return (long) number.doubleValue();
+        }
+        return parseInteger(String.valueOf(number));
+    }
+
+    private static Long parseInteger(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e1) {
+            try {
+                return Double.valueOf(value).longValue();
+            } catch (NumberFormatException e2) {
+                return null;
+            }
+        }
+    }
+
+    private static Double numberToFloat(Number number) {
+        if (number instanceof Double) {
+            return (Double) number;
+        }
+        if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+            return number.doubleValue();
+        }
+        // Float is converted via its shortest decimal representation
+        return parseFloat(String.valueOf(number));
+    }
+
+    private static Double parseFloat(String value) {
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     public static Function<Traverser,Object> cypherRound() {
         return cypherFunction(a -> (Math.round((Double) a.get(0))), Double.class);
     }
@@ -178,13 +223,7 @@ public final class CustomFunctions {
             }
 
             if (container instanceof List) {
-                List list = (List) container;
-                int size = list.size();
-                int i = normalizeContainerIndex(index, size);
-                if (i < 0 || i > size) {
-                    return Tokens.NULL;
-                }
-                return list.get(i);
+                return listIndex((List) container, index);
             }
 
             if (container instanceof Map) {
@@ -215,6 +254,31 @@ public final class CustomFunctions {
         };
     }
 
+    /**
+     * Specialization of {@link #cypherContainerIndex()} for lists.
+     */
+    public static Function<Traverser, Object> cypherListIndex() {
+        return traverser -> {
+            List<?> args = (List<?>) traverser.get();
+            Object container = args.get(0);
+            Object index = args.get(1);
+
+            if (container == Tokens.NULL || index == Tokens.NULL) {
+                return Tokens.NULL;
+            }
+            return listIndex((List) container, index);
+        };
+    }
+
+    private static Object listIndex(List list, Object index) {
+        int size = list.size();
+        int i = normalizeContainerIndex(index, size);
+        if (i < 0 || i > size) {
+            return Tokens.NULL;
+        }
+        return list.get(i);
+    }
+
     public static Function<Traverser, Object> cypherListSlice() {
         return traverser -> {
             List<?> args = (List<?>) traverser.get();
@@ -335,6 +399,45 @@ public final class CustomFunctions {
             (long) ((Collection) traverser.get()).size();
     }
 
+    /**
+     * Specialization of {@link #cypherSize()} for strings.
+     */
+    public static Function<Traverser, Object> cypherStringSize() {
+        return traverser -> (long) ((String) traverser.get()).length();
+    }
+
+    /**
+     * Specialization of {@link #cypherPlus()} for numbers, when at least one of them is a float.
+     */
+    public static Function<Traverser, Object> cypherFloatPlus() {
+        return traverser -> {
+            List<?> args = (List<?>) traverser.get();
+            Object a = args.get(0);
+            Object b = args.get(1);
+
+            if (a == Tokens.NULL || b == Tokens.NULL) {
+                return Tokens.NULL;
+            }
+            return ((Number) a).doubleValue() + ((Number) b).doubleValue();
+        };
+    }
+
+    /**
+     * Specialization of {@link #cypherPlus()} for string concatenation.
+     */
+    public static Function<Traverser, Object> cypherStringPlus() {
+        return traverser -> {
+            List<?> args = (List<?>) traverser.get();
+            Object a = args.get(0);
+            Object b = args.get(1);
+
+            if (a == Tokens.NULL || b == Tokens.NULL) {
+                return Tokens.NULL;
+            }
+            return String.valueOf(a) + String.valueOf(b);
+        };
+    }
+
     public static Function<Traverser, Object> cypherPlus() {
         return traverser -> {
             List<?> args = (List<?>) traverser.get();
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.traversal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
+import org.apache.tinkerpop.gremlin.process.traversal.step.TraversalParent;
+import org.apache.tinkerpop.gremlin.process.traversal.step.util.AbstractStep;
+import org.apache.tinkerpop.gremlin.process.traversal.traverser.TraverserRequirement;
+import org.apache.tinkerpop.gremlin.process.traversal.util.FastNoSuchElementException;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalUtil;
+import org.apache.tinkerpop.gremlin.structure.util.StringFactory;
+import org.javatuples.Pair;
+
+/**
+ * Bounded ordering step that replaces {@code order().by(...).range(low, high)}.
+ * Only the first {@code high} traversers of the ordering are kept in a heap,
+ * so the input is never sorted as a whole.
+ */
+public final class TopKStep<S> extends AbstractStep<S, S> implements TraversalParent {
+
+    private List<Pair<Traversal.Admin<S, Object>, Comparator<Object>>> comparators;
+    private final long low;
+    private final long high;
+    private Iterator<Traverser.Admin<S>> results;
+
+    @SuppressWarnings("unchecked")
+    public TopKStep(Traversal.Admin traversal,
+                    List<? extends Pair<? extends Traversal.Admin, ? extends Comparator>> comparators,
+                    long low,
+                    long high) {
+        super(traversal);
+        this.comparators = new ArrayList<>(comparators.size());
+        for (Pair<? extends Traversal.Admin, ? extends Comparator> pair : comparators) {
+            Traversal.Admin<S, Object> projection = this.integrateChild(pair.getValue0());
+            this.comparators.add(new Pair<>(projection, (Comparator<Object>) pair.getValue1()));
+        }
+        this.low = low;
+        this.high = high;
+    }
+
+    @Override
+    protected Traverser.Admin<S> processNextStart() {
+        if (results == null) {
+            results = select();
+        }
+        if (!results.hasNext()) {
+            throw FastNoSuchElementException.instance();
+        }
+        return results.next();
+    }
+
+    private Iterator<Traverser.Admin<S>> select() {
+        Comparator<Ranked<S>> order = this::compare;
+        PriorityQueue<Ranked<S>> heap = new PriorityQueue<>(Collections.reverseOrder(order));
+        long heapBulk = 0;
+        long sequence = 0;
+        while (this.starts.hasNext()) {
+            Traverser.Admin<S> traverser = this.starts.next();
+            Object[] keys = new Object[comparators.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = TraversalUtil.apply(traverser, comparators.get(i).getValue0());
+            }
+            Ranked<S> ranked = new Ranked<>(traverser, keys, sequence++);
+            if (heapBulk >= high && (heap.isEmpty() || compare(ranked, heap.peek()) > 0)) {
+                continue;
+            }
+            heap.add(ranked);
+            heapBulk += traverser.bulk();
+            while (!heap.isEmpty() && heapBulk - heap.peek().traverser.bulk() >= high) {
+                heapBulk -= heap.poll().traverser.bulk();
+            }
+        }
+
+        List<Ranked<S>> sorted = new ArrayList<>(heap);
+        sorted.sort(order);
+
+        List<Traverser.Admin<S>> selected = new ArrayList<>(sorted.size());
+        long position = 0;
+        for (Ranked<S> ranked : sorted) {
+            Traverser.Admin<S> traverser = ranked.traverser;
+            long bulk = traverser.bulk();
+            long from = Math.max(low - position, 0);
+            long to = Math.min(high - position, bulk);
+            position += bulk;
+            if (to > from) {
+                traverser.setBulk(to - from);
+                selected.add(traverser);
+            }
+        }
+        return selected.iterator();
+    }
+
+    private int compare(Ranked<S> a, Ranked<S> b) {
+        for (int i = 0; i < comparators.size(); i++) {
+            int result = comparators.get(i).getValue1().compare(a.keys[i], b.keys[i]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Long.compare(a.sequence, b.sequence);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Traversal.Admin<S, Object>> getLocalChildren() {
+        List<Traversal.Admin<S, Object>> children = new ArrayList<>(comparators.size());
+        for (Pair<Traversal.Admin<S, Object>, Comparator<Object>> pair : comparators) {
+            children.add(pair.getValue0());
+        }
+        return children;
+    }
+
+    @Override
+    public Set<TraverserRequirement> getRequirements() {
+        return this.getSelfAndChildRequirements(TraverserRequirement.BULK, TraverserRequirement.OBJECT);
+    }
+
+    @Override
+    public void setTraversal(Traversal.Admin<?, ?> parentTraversal) {
+        super.setTraversal(parentTraversal);
+        for (Pair<Traversal.Admin<S, Object>, Comparator<Object>> pair : comparators) {
+            this.integrateChild(pair.getValue0());
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        results = null;
+    }
+
+    @Override
+    public TopKStep<S> clone() {
+        TopKStep<S> clone = (TopKStep<S>) super.clone();
+        clone.comparators = new ArrayList<>(comparators.size());
+        for (Pair<Traversal.Admin<S, Object>, Comparator<Object>> pair : comparators) {
+            clone.comparators.add(new Pair<>(pair.getValue0().clone(), pair.getValue1()));
+        }
+        clone.results = null;
+        return clone;
+    }
+
+    @Override
+    public String toString() {
+        return StringFactory.stepString(this, comparators, low, high);
+    }
+
+    private static final class Ranked<S> {
+        private final Traverser.Admin<S> traverser;
+        private final Object[] keys;
+        private final long sequence;
+
+        private Ranked(Traverser.Admin<S> traverser, Object[] keys, long sequence) {
+            this.traverser = traverser;
+            this.keys = keys;
+            this.sequence = sequence;
+        }
+    }
+}
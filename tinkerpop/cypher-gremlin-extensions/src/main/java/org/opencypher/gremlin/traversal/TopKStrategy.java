@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.traversal;
+
+import static java.util.Collections.singleton;
+
+import java.util.Set;
+import org.apache.tinkerpop.gremlin.process.traversal.Order;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.TraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.step.filter.RangeGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.step.map.OrderGlobalStep;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.AbstractTraversalStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.strategy.optimization.EarlyLimitStrategy;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalHelper;
+
+/**
+ * Replaces an {@code order()} step that is immediately followed by a bounded {@code range()}
+ * with a {@link TopKStep}, turning a full sort into a top-K selection.
+ */
+public final class TopKStrategy
+    extends AbstractTraversalStrategy<TraversalStrategy.OptimizationStrategy>
+    implements TraversalStrategy.OptimizationStrategy {
+
+    private static final TopKStrategy INSTANCE = new TopKStrategy();
+
+    private TopKStrategy() {
+    }
+
+    public static TopKStrategy instance() {
+        return INSTANCE;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void apply(Traversal.Admin<?, ?> traversal) {
+        if (TraversalHelper.onGraphComputer(traversal)) {
+            return;
+        }
+
+        for (OrderGlobalStep orderStep : TraversalHelper.getStepsOfClass(OrderGlobalStep.class, traversal)) {
+            if (!(orderStep.getNextStep() instanceof RangeGlobalStep) || !orderStep.getLabels().isEmpty()) {
+                continue;
+            }
+            RangeGlobalStep<?> rangeStep = (RangeGlobalStep<?>) orderStep.getNextStep();
+            if (rangeStep.getHighRange() < 0 || isShuffle(orderStep)) {
+                continue;
+            }
+
+            TopKStep<?> topKStep = new TopKStep<>(
+                traversal,
+                orderStep.getComparators(),
+                rangeStep.getLowRange(),
+                rangeStep.getHighRange()
+            );
+            for (String label : rangeStep.getLabels()) {
+                topKStep.addLabel(label);
+            }
+            TraversalHelper.replaceStep(orderStep, topKStep, traversal);
+            traversal.removeStep(rangeStep);
+        }
+    }
+
+    private static boolean isShuffle(OrderGlobalStep<?, ?> orderStep) {
+        return orderStep.getComparators().stream()
+            .anyMatch(pair -> pair.getValue1() == Order.shuffle);
+    }
+
+    @Override
+    public Set<Class<? extends OptimizationStrategy>> applyPrior() {
+        return singleton(EarlyLimitStrategy.class);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.neo4j.driver;
+
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.opencypher.gremlin.client.CypherGremlinClient;
+
+/**
+ * Fixed-size pool of clients shared by sessions of a driver.
+ * <p>
+ * Each Gremlin client multiplexes concurrent requests over its own connections,
+ * so sessions lease a client instead of owning one.
+ * A session is given the client with the fewest active leases.
+ * Clients are created on first lease and closed after being idle (not leased) for longer than the idle timeout.
+ * Idle clients are evicted when the pool is used, without a background thread.
+ */
+final class ClientPool implements AutoCloseable {
+    private final Supplier<CypherGremlinClient> clientFactory;
+    private final long idleTimeoutNanos;
+    private final LongSupplier nanoTime;
+    private final Slot[] slots;
+    private int nextSlot;
+    private long leases;
+    private long created;
+    private long evicted;
+    private boolean closed;
+
+    ClientPool(Supplier<CypherGremlinClient> clientFactory, int size, long idleTimeoutNanos) {
+        this(clientFactory, size, idleTimeoutNanos, System::nanoTime);
+    }
+
+    ClientPool(Supplier<CypherGremlinClient> clientFactory, int size, long idleTimeoutNanos, LongSupplier nanoTime) {
+        this.clientFactory = clientFactory;
+        this.idleTimeoutNanos = idleTimeoutNanos;
+        this.nanoTime = nanoTime;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+    }
+
+    synchronized Lease lease() {
+        if (closed) {
+            throw new IllegalStateException("Driver is closed");
+        }
+        long now = nanoTime.getAsLong();
+        evictIdle(now);
+
+        Slot slot = slots[nextSlot];
+        for (int i = 1; i < slots.length; i++) {
+            Slot candidate = slots[(nextSlot + i) % slots.length];
+            if (candidate.leased < slot.leased) {
+                slot = candidate;
+            }
+        }
+        nextSlot = (nextSlot + 1) % slots.length;
+
+        if (slot.client == null) {
+            slot.client = clientFactory.get();
+            created++;
+        }
+        slot.leased++;
+        slot.lastUsed = now;
+        leases++;
+        return new Lease(slot, slot.client);
+    }
+
+    private synchronized void release(Slot slot) {
+        slot.leased--;
+        long now = nanoTime.getAsLong();
+        slot.lastUsed = now;
+        evictIdle(now);
+    }
+
+    private void evictIdle(long now) {
+        for (Slot slot : slots) {
+            if (slot.client != null && slot.leased == 0 && now - slot.lastUsed > idleTimeoutNanos) {
+                slot.client.close();
+                slot.client = null;
+                evicted++;
+            }
+        }
+    }
+
+    synchronized ClientPoolMetrics metrics() {
+        int open = 0;
+        int leased = 0;
+        for (Slot slot : slots) {
+            if (slot.client != null) {
+                open++;
+            }
+            leased += slot.leased;
+        }
+        return new ClientPoolMetrics(slots.length, open, leased, leases, created, evicted);
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        for (Slot slot : slots) {
+            if (slot.client != null) {
+                slot.client.close();
+                slot.client = null;
+            }
+        }
+    }
+
+    private static final class Slot {
+        private CypherGremlinClient client;
+        private int leased;
+        private long lastUsed;
+    }
+
+    /**
+     * A client leased by a session.
+     * The client is shared, so it should not be closed by the session.
+     */
+    final class Lease {
+        private final Slot slot;
+        private final CypherGremlinClient client;
+        private boolean released;
+
+        private Lease(Slot slot, CypherGremlinClient client) {
+            this.slot = slot;
+            this.client = client;
+        }
+
+        CypherGremlinClient client() {
+            return client;
+        }
+
+        void release() {
+            synchronized (ClientPool.this) {
+                if (released) {
+                    return;
+                }
+                released = true;
+                release(slot);
+            }
+        }
+    }
+}
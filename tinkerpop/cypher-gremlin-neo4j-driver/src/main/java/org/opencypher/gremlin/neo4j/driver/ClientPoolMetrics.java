@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.neo4j.driver;
+
+/**
+ * Snapshot of the state of a driver client pool.
+ *
+ * @see GremlinDatabase#poolMetrics(org.neo4j.driver.v1.Driver)
+ */
+public final class ClientPoolMetrics {
+    private final int size;
+    private final int openClients;
+    private final int leasedSessions;
+    private final long totalLeases;
+    private final long createdClients;
+    private final long evictedClients;
+
+    ClientPoolMetrics(int size,
+                      int openClients,
+                      int leasedSessions,
+                      long totalLeases,
+                      long createdClients,
+                      long evictedClients) {
+        this.size = size;
+        this.openClients = openClients;
+        this.leasedSessions = leasedSessions;
+        this.totalLeases = totalLeases;
+        this.createdClients = createdClients;
+        this.evictedClients = evictedClients;
+    }
+
+    /**
+     * @return configured maximum number of clients
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return number of currently open clients
+     */
+    public int openClients() {
+        return openClients;
+    }
+
+    /**
+     * @return number of open sessions that lease a client
+     */
+    public int leasedSessions() {
+        return leasedSessions;
+    }
+
+    /**
+     * @return number of sessions created so far
+     */
+    public long totalLeases() {
+        return totalLeases;
+    }
+
+    /**
+     * @return number of clients created so far
+     */
+    public long createdClients() {
+        return createdClients;
+    }
+
+    /**
+     * @return number of clients closed after being idle
+     */
+    public long evictedClients() {
+        return evictedClients;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientPoolMetrics{" +
+            "size=" + size +
+            ", openClients=" + openClients +
+            ", leasedSessions=" + leasedSessions +
+            ", totalLeases=" + totalLeases +
+            ", createdClients=" + createdClients +
+            ", evictedClients=" + evictedClients +
+            '}';
+    }
+}
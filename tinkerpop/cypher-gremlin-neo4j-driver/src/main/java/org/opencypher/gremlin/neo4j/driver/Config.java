@@ -15,6 +15,7 @@
  */
 package org.opencypher.gremlin.neo4j.driver;
 
+import java.util.concurrent.TimeUnit;
 import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
 
 /**
@@ -32,10 +33,16 @@ import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
 public class Config {
     private final TranslatorFlavor flavor;
     private final boolean ignoreIds;
+    private final int fetchSize;
+    private final int clientPoolSize;
+    private final long clientIdleTimeoutMillis;
 
     private Config(ConfigBuilder configBuilder) {
         flavor = configBuilder.flavor;
         ignoreIds = configBuilder.ignoreIds;
+        fetchSize = configBuilder.fetchSize;
+        clientPoolSize = configBuilder.clientPoolSize;
+        clientIdleTimeoutMillis = configBuilder.clientIdleTimeoutMillis;
     }
 
     /**
@@ -66,6 +73,27 @@ public class Config {
         return ignoreIds;
     }
 
+    /**
+     * @return maximum number of records fetched at once by asynchronous result cursors
+     */
+    public int fetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * @return maximum number of Gremlin clients shared by sessions of a driver
+     */
+    public int clientPoolSize() {
+        return clientPoolSize;
+    }
+
+    /**
+     * @return time in milliseconds after which a Gremlin client that is not used by any session is closed
+     */
+    public long clientIdleTimeoutMillis() {
+        return clientIdleTimeoutMillis;
+    }
+
     /**
      * Return a {@link ConfigBuilder} instance.
      *
@@ -81,6 +109,9 @@ public class Config {
     public static class ConfigBuilder {
         private TranslatorFlavor flavor;
         private boolean ignoreIds = false;
+        private int fetchSize = 1000;
+        private int clientPoolSize = 1;
+        private long clientIdleTimeoutMillis = TimeUnit.MINUTES.toMillis(5);
 
         private ConfigBuilder() {
         }
@@ -117,6 +148,53 @@ public class Config {
             return this;
         }
 
+        /**
+         * Maximum number of records fetched at once by asynchronous result cursors.
+         * See {@link GremlinSession#runAsync(org.neo4j.driver.v1.Statement)}.
+         *
+         * @param fetchSize number of records, should be positive
+         * @return a {@link ConfigBuilder} instance
+         */
+        public ConfigBuilder withFetchSize(int fetchSize) {
+            if (fetchSize < 1) {
+                throw new IllegalArgumentException("Fetch size should be positive: " + fetchSize);
+            }
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        /**
+         * Maximum number of Gremlin clients shared by sessions of a driver.
+         * Each client keeps its own connections to Gremlin Server
+         * and multiplexes requests of all sessions that use it.
+         *
+         * @param clientPoolSize number of clients, should be positive
+         * @return a {@link ConfigBuilder} instance
+         */
+        public ConfigBuilder withClientPoolSize(int clientPoolSize) {
+            if (clientPoolSize < 1) {
+                throw new IllegalArgumentException("Client pool size should be positive: " + clientPoolSize);
+            }
+            this.clientPoolSize = clientPoolSize;
+            return this;
+        }
+
+        /**
+         * Close Gremlin clients that are not used by any session for longer than the timeout.
+         * Closed clients are created again when needed.
+         *
+         * @param timeout idle timeout
+         * @param unit    unit of the timeout
+         * @return a {@link ConfigBuilder} instance
+         */
+        public ConfigBuilder withClientIdleTimeout(long timeout, TimeUnit unit) {
+            if (timeout < 0) {
+                throw new IllegalArgumentException("Client idle timeout should not be negative: " + timeout);
+            }
+            this.clientIdleTimeoutMillis = unit.toMillis(timeout);
+            return this;
+        }
+
         /**
          * Create a config instance from this builder.
          *
@@ -16,64 +16,156 @@
 package org.opencypher.gremlin.neo4j.driver;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
 import static org.opencypher.gremlin.translation.ReturnProperties.ALL_PROPERTIES;
 import static org.opencypher.gremlin.translation.ReturnProperties.ID;
 import static org.opencypher.gremlin.translation.ReturnProperties.INV;
 import static org.opencypher.gremlin.translation.ReturnProperties.LABEL;
+import static org.opencypher.gremlin.translation.ReturnProperties.NODE_TYPE;
 import static org.opencypher.gremlin.translation.ReturnProperties.OUTV;
-import static org.opencypher.gremlin.translation.ReturnProperties.isNode;
+import static org.opencypher.gremlin.translation.ReturnProperties.RELATIONSHIP_TYPE;
+import static org.opencypher.gremlin.translation.ReturnProperties.TYPE;
 import static org.opencypher.gremlin.translation.ReturnProperties.isPath;
-import static org.opencypher.gremlin.translation.ReturnProperties.isRelationship;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.neo4j.driver.internal.InternalNode;
 import org.neo4j.driver.internal.InternalPath;
-import org.neo4j.driver.internal.InternalRecord;
 import org.neo4j.driver.internal.InternalRelationship;
+import org.neo4j.driver.internal.value.ListValue;
 import org.neo4j.driver.v1.Record;
 import org.neo4j.driver.v1.Value;
 import org.neo4j.driver.v1.Values;
 import org.neo4j.driver.v1.types.Entity;
-
+import org.neo4j.driver.v1.util.Function;
+import org.opencypher.v9_0.util.symbols.BooleanType;
+import org.opencypher.v9_0.util.symbols.CypherType;
+import org.opencypher.v9_0.util.symbols.FloatType;
+import org.opencypher.v9_0.util.symbols.IntegerType;
+import org.opencypher.v9_0.util.symbols.ListType;
+import org.opencypher.v9_0.util.symbols.NodeType;
+import org.opencypher.v9_0.util.symbols.PathType;
+import org.opencypher.v9_0.util.symbols.RelationshipType;
+import org.opencypher.v9_0.util.symbols.StringType;
+
+/**
+ * Converts rows returned by {@link org.opencypher.gremlin.client.CypherGremlinClient} to Neo4j driver records.
+ * <p>
+ * When return types of a query are known, a conversion is chosen once per column,
+ * so values of typed columns are not inspected to find out whether they are graph elements.
+ */
 class GremlinCypherValueConverter {
+    private static final Set<String> ELEMENT_PROPERTIES = new HashSet<>(ALL_PROPERTIES);
+
     private final boolean ignoreIds;
+    private final Function<Object, Value> untyped = this::toCypherValue;
 
     public GremlinCypherValueConverter(boolean ignoreIds) {
         this.ignoreIds = ignoreIds;
     }
 
     Record toRecord(Map<String, Object> map) {
-        List<String> keys = new ArrayList<>();
-        List<Value> values = new ArrayList<>();
+        List<String> keys = new ArrayList<>(map.keySet());
+        return toRecord(keys, LazyRecord.keyIndex(keys), columnConverters(keys, emptyMap()), map);
+    }
 
-        for (Map.Entry<String, Object> entry : map.entrySet()) {
-            keys.add(entry.getKey());
-            values.add(toCypherValue(entry.getValue()));
+    /**
+     * Chooses conversions for the columns of a result.
+     *
+     * @param keys        columns of the result
+     * @param returnTypes known types of the columns, possibly empty
+     * @return conversion for each column
+     */
+    List<Function<Object, Value>> columnConverters(List<String> keys, Map<String, CypherType> returnTypes) {
+        List<Function<Object, Value>> converters = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            CypherType type = returnTypes.get(key);
+            converters.add(type == null ? untyped : compile(type));
         }
+        return converters;
+    }
 
-        return new InternalRecord(keys, values.toArray(new Value[values.size()]));
+    /**
+     * Creates a record that converts column values on first access.
+     *
+     * @param keys             columns of the record, shared by all records of a result
+     * @param keyIndex         column index by key, shared by all records of a result
+     * @param columnConverters conversions of the columns, see {@link #columnConverters(List, Map)}
+     * @param row              Gremlin result row
+     * @return record
+     */
+    Record toRecord(List<String> keys,
+                    Map<String, Integer> keyIndex,
+                    List<Function<Object, Value>> columnConverters,
+                    Map<String, Object> row) {
+        Object[] rawValues = new Object[keys.size()];
+        for (int i = 0; i < rawValues.length; i++) {
+            rawValues[i] = row.get(keys.get(i));
+        }
+        return new LazyRecord(keys, keyIndex, rawValues, columnConverters);
+    }
+
+    private Function<Object, Value> compile(CypherType type) {
+        if (type instanceof NodeType) {
+            return nullSafe(v -> toCypherNode((Map<?, ?>) v).asValue());
+        } else if (type instanceof RelationshipType) {
+            return nullSafe(v -> toCypherRelationship((Map<?, ?>) v).asValue());
+        } else if (type instanceof PathType) {
+            return nullSafe(v -> toCypherPath((List<?>) v));
+        } else if (type instanceof IntegerType
+            || type instanceof FloatType
+            || type instanceof StringType
+            || type instanceof BooleanType) {
+            return Values::value;
+        } else if (type instanceof ListType) {
+            CypherType innerType = ((ListType) type).innerType();
+            if (innerType instanceof NodeType
+                || innerType instanceof RelationshipType
+                || innerType instanceof PathType) {
+                Function<Object, Value> inner = compile(innerType);
+                return nullSafe(v -> toCypherList((Collection<?>) v, inner));
+            }
+        }
+        return untyped;
+    }
+
+    private static Function<Object, Value> nullSafe(Function<Object, Value> converter) {
+        return v -> v == null ? Values.NULL : converter.apply(v);
     }
 
     private Value toCypherValue(Object value) {
-        if (isNode(value)) {
-            return toCypherNode((Map<?, ?>) value).asValue();
-        } else if (isRelationship(value)) {
-            return toCypherRelationship((Map<?, ?>) value).asValue();
-        } else if (isPath(value)) {
-            return toCypherPath((List) value);
-        } else {
-            return Values.value(value);
+        if (value instanceof Map) {
+            Object type = ((Map<?, ?>) value).get(TYPE);
+            if (NODE_TYPE.equals(type)) {
+                return toCypherNode((Map<?, ?>) value).asValue();
+            } else if (RELATIONSHIP_TYPE.equals(type)) {
+                return toCypherRelationship((Map<?, ?>) value).asValue();
+            }
+        } else if (value instanceof List && isPath(value)) {
+            return toCypherPath((List<?>) value);
+        }
+        return Values.value(value);
+    }
+
+    private Value toCypherList(Collection<?> list, Function<Object, Value> inner) {
+        Value[] values = new Value[list.size()];
+        int i = 0;
+        for (Object v : list) {
+            values[i++] = inner.apply(v);
         }
+        return new ListValue(values);
     }
 
-    @SuppressWarnings("unchecked")
-    private Value toCypherPath(List p) {
+    private Value toCypherPath(List<?> p) {
         boolean isNode = true;
 
         Entity[] objects = new Entity[p.size()];
@@ -91,8 +183,8 @@ class GremlinCypherValueConverter {
     }
 
     private InternalRelationship toCypherRelationship(Map<?, ?> e) {
-        Long start = toCypherId(e.get(OUTV));
-        Long end = toCypherId(e.get(INV));
+        long start = toCypherId(e.get(OUTV));
+        long end = toCypherId(e.get(INV));
 
         Map<String, Value> properties = toCypherPropertyMap(e);
 
@@ -103,11 +195,8 @@ class GremlinCypherValueConverter {
     }
 
     private InternalNode toCypherNode(Map<?, ?> v) {
-        Set<String> labels = new HashSet<>();
         String label = String.valueOf(v.get(LABEL));
-        if (!Vertex.DEFAULT_LABEL.equals(label)) {
-            labels.add(label);
-        }
+        List<String> labels = Vertex.DEFAULT_LABEL.equals(label) ? emptyList() : singletonList(label);
 
         Map<String, Value> properties = toCypherPropertyMap(v);
 
@@ -115,25 +204,28 @@ class GremlinCypherValueConverter {
     }
 
     private Map<String, Value> toCypherPropertyMap(Map<?, ?> e) {
-        Map<String, Value> properties = new HashMap<>();
-        e.entrySet().stream()
-            .filter((n) -> !ALL_PROPERTIES.contains(String.valueOf(n.getKey())))
-            .forEach((n) -> properties.put(
-                String.valueOf(n.getKey()),
-                toCypherValue(n.getValue())));
-
+        Map<String, Value> properties = new HashMap<>(e.size() * 4 / 3 + 1);
+        for (Entry<?, ?> entry : e.entrySet()) {
+            String key = String.valueOf(entry.getKey());
+            if (!ELEMENT_PROPERTIES.contains(key)) {
+                properties.put(key, Values.value(entry.getValue()));
+            }
+        }
         return properties;
     }
 
-    private Long toCypherId(Object id) {
+    private long toCypherId(Object id) {
         if (ignoreIds) {
             return -1L;
+        } else if (id instanceof Long || id instanceof Integer || id instanceof Short || id instanceof Byte) {
+            return ((Number) id).longValue();
         } else {
             try {
-                return Long.valueOf(String.valueOf(id));
-            } catch (Exception e) {
+                return Long.parseLong(String.valueOf(id));
+            } catch (NumberFormatException e) {
                 throw new IllegalArgumentException(format("Entity id should be numeric, got `%s` (%s). " +
-                    "Consider querying properties instead of entities, or use org.opencypher.gremlin.neo4j.driver.Config.ConfigBuilder#ignoreIds", id.getClass(), id));
+                    "Consider querying properties instead of entities, or use org.opencypher.gremlin.neo4j.driver.Config.ConfigBuilder#ignoreIds",
+                    id == null ? null : id.getClass(), id));
             }
         }
     }
@@ -103,4 +103,18 @@ public class GremlinDatabase {
     public static Driver driver(Cluster cluster, Config config) {
         return new GremlinServerDriver(cluster, config);
     }
+
+    /**
+     * Returns metrics of the client pool shared by sessions of a Gremlin Server driver.
+     *
+     * @param driver driver created by {@link GremlinDatabase} for a Gremlin Server
+     * @return client pool metrics
+     * @throws IllegalArgumentException if the driver does not connect to a Gremlin Server
+     */
+    public static ClientPoolMetrics poolMetrics(Driver driver) {
+        if (!(driver instanceof GremlinServerDriver)) {
+            throw new IllegalArgumentException("Driver does not have a client pool: " + driver);
+        }
+        return ((GremlinServerDriver) driver).poolMetrics();
+    }
 }
@@ -16,7 +16,6 @@
 package org.opencypher.gremlin.neo4j.driver;
 
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
-import org.neo4j.driver.v1.Session;
 import org.neo4j.driver.v1.summary.ServerInfo;
 import org.opencypher.gremlin.client.CypherGremlinClient;
 
@@ -35,9 +34,11 @@ public class GremlinGraphDriver implements GremlinDriver {
     }
 
     @Override
-    public Session session() {
+    public GremlinSession session() {
         CypherGremlinClient cypherGremlinClient = CypherGremlinClient.inMemory(graphTraversalSource);
-        return new GremlinServerSession(serverInfo, cypherGremlinClient, new GremlinCypherValueConverter(false));
+        GremlinCypherValueConverter converter = new GremlinCypherValueConverter(false);
+        int fetchSize = Config.defaultConfig().fetchSize();
+        return new GremlinServerSession(serverInfo, cypherGremlinClient, converter, fetchSize, cypherGremlinClient::close);
     }
 
     @Override
@@ -15,9 +15,9 @@
  */
 package org.opencypher.gremlin.neo4j.driver;
 
+import java.util.concurrent.TimeUnit;
 import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.Cluster;
-import org.neo4j.driver.v1.Session;
 import org.neo4j.driver.v1.summary.ServerInfo;
 import org.opencypher.gremlin.client.CypherGremlinClient;
 
@@ -25,11 +25,17 @@ class GremlinServerDriver implements GremlinDriver {
     private final Cluster cluster;
     private final GremlinServerInfo serverInfo;
     private final Config config;
+    private final ClientPool clientPool;
 
     GremlinServerDriver(Cluster cluster, Config config) {
         this.cluster = cluster;
         this.config = config;
         serverInfo = new GremlinServerInfo(cluster.toString());
+        clientPool = new ClientPool(
+            this::createClient,
+            config.clientPoolSize(),
+            TimeUnit.MILLISECONDS.toNanos(config.clientIdleTimeoutMillis())
+        );
     }
 
     @Override
@@ -38,20 +44,26 @@ class GremlinServerDriver implements GremlinDriver {
     }
 
     @Override
-    public Session session() {
-        Client gremlinClient = cluster.connect();
+    public GremlinSession session() {
+        ClientPool.Lease lease = clientPool.lease();
+        GremlinCypherValueConverter converter = new GremlinCypherValueConverter(config.isIgnoreIds());
+        return new GremlinServerSession(serverInfo, lease.client(), converter, config.fetchSize(), lease::release);
+    }
+
+    ClientPoolMetrics poolMetrics() {
+        return clientPool.metrics();
+    }
 
-        CypherGremlinClient cypherGremlinClient = config.translationEnabled()
+    private CypherGremlinClient createClient() {
+        Client gremlinClient = cluster.connect();
+        return config.translationEnabled()
             ? CypherGremlinClient.translating(gremlinClient, config.flavor())
             : CypherGremlinClient.plugin(gremlinClient);
-
-        GremlinCypherValueConverter converter = new GremlinCypherValueConverter(config.isIgnoreIds());
-
-        return new GremlinServerSession(serverInfo, cypherGremlinClient, converter);
     }
 
     @Override
     public void close() {
+        clientPool.close();
         cluster.close();
     }
 
@@ -18,8 +18,9 @@ package org.opencypher.gremlin.neo4j.driver;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import org.neo4j.driver.v1.Record;
-import org.neo4j.driver.v1.Session;
 import org.neo4j.driver.v1.Statement;
 import org.neo4j.driver.v1.StatementResult;
 import org.neo4j.driver.v1.Transaction;
@@ -28,17 +29,26 @@ import org.neo4j.driver.v1.Value;
 import org.neo4j.driver.v1.summary.ServerInfo;
 import org.neo4j.driver.v1.types.TypeSystem;
 import org.opencypher.gremlin.client.CypherGremlinClient;
+import org.opencypher.gremlin.client.CypherResultSet;
 
-class GremlinServerSession implements Session {
+class GremlinServerSession implements GremlinSession {
     private final ServerInfo serverInfo;
     private final CypherGremlinClient client;
     private final GremlinCypherValueConverter converter;
-    private boolean open = true;
-
-    GremlinServerSession(ServerInfo serverInfo, CypherGremlinClient client, GremlinCypherValueConverter converter) {
+    private final int fetchSize;
+    private final Runnable onClose;
+    private volatile boolean open = true;
+
+    GremlinServerSession(ServerInfo serverInfo,
+                         CypherGremlinClient client,
+                         GremlinCypherValueConverter converter,
+                         int fetchSize,
+                         Runnable onClose) {
         this.serverInfo = serverInfo;
         this.client = client;
         this.converter = converter;
+        this.fetchSize = fetchSize;
+        this.onClose = onClose;
     }
 
     @Override
@@ -80,8 +90,17 @@ class GremlinServerSession implements Session {
 
     @Override
     public void close() {
+        if (!open) {
+            return;
+        }
         open = false;
-        client.close();
+        onClose.run();
+    }
+
+    @Override
+    public CompletionStage<Void> closeAsync() {
+        close();
+        return CompletableFuture.completedFuture(null);
     }
 
     @Override
@@ -107,8 +126,23 @@ class GremlinServerSession implements Session {
     @Override
     public StatementResult run(Statement statement) {
         HashMap<String, Object> serializableMap = new HashMap<>(statement.parameters().asMap());
-        Iterator<Map<String, Object>> iterator = client.submit(statement.text(), serializableMap).iterator();
-        return new GremlinServerStatementResult(serverInfo, statement, iterator, converter);
+        CypherResultSet resultSet = client.submit(statement.text(), serializableMap);
+        Iterator<Map<String, Object>> iterator = resultSet.iterator();
+        return new GremlinServerStatementResult(serverInfo, statement, iterator, converter, resultSet.returnTypes());
+    }
+
+    @Override
+    public CompletionStage<GremlinStatementResultCursor> runAsync(Statement statement) {
+        HashMap<String, Object> serializableMap = new HashMap<>(statement.parameters().asMap());
+        return client.submitAsync(statement.text(), serializableMap)
+            .thenCompose(resultSet -> GremlinServerStatementResultCursor.create(
+                serverInfo,
+                statement,
+                resultSet::fetchAsync,
+                fetchSize,
+                converter,
+                resultSet.returnTypes()
+            ));
     }
 
     @Override
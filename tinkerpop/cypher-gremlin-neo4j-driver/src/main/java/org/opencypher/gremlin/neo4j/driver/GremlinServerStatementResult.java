@@ -15,7 +15,9 @@
  */
 package org.opencypher.gremlin.neo4j.driver;
 
-import static java.util.stream.Collectors.toList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -24,31 +26,53 @@ import java.util.Map;
 import org.neo4j.driver.v1.Record;
 import org.neo4j.driver.v1.Statement;
 import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.Value;
 import org.neo4j.driver.v1.exceptions.NoSuchRecordException;
 import org.neo4j.driver.v1.summary.ResultSummary;
 import org.neo4j.driver.v1.summary.ServerInfo;
 import org.neo4j.driver.v1.util.Function;
+import org.opencypher.v9_0.util.symbols.CypherType;
 
 class GremlinServerStatementResult implements StatementResult {
     private final PeekingIterator<Map<String, Object>> iterator;
     private final ServerInfo serverInfo;
     private final Statement statement;
     private final GremlinCypherValueConverter converter;
+    private final Map<String, CypherType> returnTypes;
+    private List<String> keys;
+    private Map<String, Integer> keyIndex;
+    private List<Function<Object, Value>> columnConverters;
+    private Record peeked;
 
     GremlinServerStatementResult(ServerInfo serverInfo,
                                  Statement statement,
                                  Iterator<Map<String, Object>> iterator,
                                  GremlinCypherValueConverter converter) {
+        this(serverInfo, statement, iterator, converter, emptyMap());
+    }
+
+    GremlinServerStatementResult(ServerInfo serverInfo,
+                                 Statement statement,
+                                 Iterator<Map<String, Object>> iterator,
+                                 GremlinCypherValueConverter converter,
+                                 Map<String, CypherType> returnTypes) {
         this.iterator = new PeekingIterator<>(iterator);
         this.serverInfo = serverInfo;
         this.statement = statement;
         this.converter = converter;
+        this.returnTypes = returnTypes;
     }
 
-
     @Override
     public List<String> keys() {
-        return peek().keys();
+        if (keys == null) {
+            keys = iterator.hasNext()
+                ? unmodifiableList(new ArrayList<>(iterator.peek().keySet()))
+                : emptyList();
+            keyIndex = LazyRecord.keyIndex(keys);
+            columnConverters = converter.columnConverters(keys, returnTypes);
+        }
+        return keys;
     }
 
     @Override
@@ -58,7 +82,14 @@ class GremlinServerStatementResult implements StatementResult {
 
     @Override
     public Record next() {
-        return converter.toRecord(iterator.next());
+        List<String> keys = keys();
+        Map<String, Object> row = iterator.next();
+        if (peeked != null) {
+            Record record = peeked;
+            peeked = null;
+            return record;
+        }
+        return converter.toRecord(keys, keyIndex, columnConverters, row);
     }
 
     @Override
@@ -80,26 +111,32 @@ class GremlinServerStatementResult implements StatementResult {
 
     @Override
     public Record peek() {
-        return converter.toRecord(iterator.peek());
+        if (peeked == null) {
+            Map<String, Object> row = iterator.peek();
+            peeked = converter.toRecord(keys(), keyIndex, columnConverters, row);
+        }
+        return peeked;
     }
 
     @Override
     public List<Record> list() {
-        ArrayList<Record> list = new ArrayList<>();
-        iterator.forEachRemaining(e -> list.add(converter.toRecord(e)));
-        return list;
+        return list(record -> record);
     }
 
     @Override
     public <T> List<T> list(Function<Record, T> mapFunction) {
-        return list().stream()
-            .map(mapFunction::apply)
-            .collect(toList());
+        List<T> list = new ArrayList<>();
+        while (hasNext()) {
+            list.add(mapFunction.apply(next()));
+        }
+        return list;
     }
 
     @Override
     public ResultSummary consume() {
-        list();
+        iterator.forEachRemaining(row -> {
+        });
+        peeked = null;
         return new GremlinServerResultSummary(statement, serverInfo);
     }
 
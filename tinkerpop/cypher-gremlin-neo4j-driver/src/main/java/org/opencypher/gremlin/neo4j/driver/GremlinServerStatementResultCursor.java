@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.neo4j.driver;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import org.neo4j.driver.v1.Record;
+import org.neo4j.driver.v1.Statement;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.exceptions.NoSuchRecordException;
+import org.neo4j.driver.v1.summary.ResultSummary;
+import org.neo4j.driver.v1.summary.ServerInfo;
+import org.neo4j.driver.v1.util.Function;
+import org.opencypher.v9_0.util.symbols.CypherType;
+
+class GremlinServerStatementResultCursor implements GremlinStatementResultCursor {
+    private final ServerInfo serverInfo;
+    private final Statement statement;
+    private final IntFunction<CompletableFuture<List<Map<String, Object>>>> fetcher;
+    private final int fetchSize;
+    private final GremlinCypherValueConverter converter;
+    private final Deque<Map<String, Object>> buffer = new ArrayDeque<>();
+    private List<String> keys = emptyList();
+    private Map<String, Integer> keyIndex = emptyMap();
+    private List<Function<Object, Value>> columnConverters = emptyList();
+    private Record peeked;
+    private boolean exhausted;
+
+    private GremlinServerStatementResultCursor(ServerInfo serverInfo,
+                                               Statement statement,
+                                               IntFunction<CompletableFuture<List<Map<String, Object>>>> fetcher,
+                                               int fetchSize,
+                                               GremlinCypherValueConverter converter) {
+        this.serverInfo = serverInfo;
+        this.statement = statement;
+        this.fetcher = fetcher;
+        this.fetchSize = fetchSize;
+        this.converter = converter;
+    }
+
+    static CompletableFuture<GremlinStatementResultCursor> create(ServerInfo serverInfo,
+                                                                  Statement statement,
+                                                                  IntFunction<CompletableFuture<List<Map<String, Object>>>> fetcher,
+                                                                  int fetchSize,
+                                                                  GremlinCypherValueConverter converter) {
+        return create(serverInfo, statement, fetcher, fetchSize, converter, emptyMap());
+    }
+
+    /**
+     * Creates a cursor once the first batch of rows is fetched.
+     *
+     * @param fetcher     fetches up to the requested number of rows, or an empty list when all rows are fetched
+     * @param returnTypes known types of the returned columns, possibly empty
+     */
+    static CompletableFuture<GremlinStatementResultCursor> create(ServerInfo serverInfo,
+                                                                  Statement statement,
+                                                                  IntFunction<CompletableFuture<List<Map<String, Object>>>> fetcher,
+                                                                  int fetchSize,
+                                                                  GremlinCypherValueConverter converter,
+                                                                  Map<String, CypherType> returnTypes) {
+        GremlinServerStatementResultCursor cursor =
+            new GremlinServerStatementResultCursor(serverInfo, statement, fetcher, fetchSize, converter);
+        return cursor.fetch().thenApply(ignored -> {
+            Map<String, Object> first = cursor.buffer.peekFirst();
+            if (first != null) {
+                cursor.keys = unmodifiableList(new ArrayList<>(first.keySet()));
+                cursor.keyIndex = LazyRecord.keyIndex(cursor.keys);
+                cursor.columnConverters = converter.columnConverters(cursor.keys, returnTypes);
+            }
+            return cursor;
+        });
+    }
+
+    @Override
+    public List<String> keys() {
+        return keys;
+    }
+
+    @Override
+    public CompletionStage<Record> nextAsync() {
+        return peekRow().thenApply(row -> row != null ? pollRecord() : null);
+    }
+
+    @Override
+    public CompletionStage<Record> peekAsync() {
+        return peekRow().thenApply(row -> {
+            if (row != null && peeked == null) {
+                peeked = toRecord(row);
+            }
+            return peeked;
+        });
+    }
+
+    @Override
+    public CompletionStage<Record> singleAsync() {
+        return nextAsync().thenCompose(record -> {
+            if (record == null) {
+                throw new NoSuchRecordException("Cannot retrieve a single record, because this result is empty.");
+            }
+            return peekRow().thenApply(next -> {
+                if (next != null) {
+                    throw new NoSuchRecordException("Expected a result with a single record, but this result contains at least one more. " +
+                        "Ensure your query returns only one record, or use `first` instead of `single` if " +
+                        "you do not care about the number of records in the result.");
+                }
+                return record;
+            });
+        });
+    }
+
+    @Override
+    public CompletionStage<ResultSummary> consumeAsync() {
+        return forEachRecord(record -> {
+        }).thenApply(ignored -> summary());
+    }
+
+    @Override
+    public CompletionStage<ResultSummary> forEachAsync(Consumer<Record> action) {
+        return forEachRecord(action).thenApply(ignored -> summary());
+    }
+
+    @Override
+    public CompletionStage<List<Record>> listAsync() {
+        return listAsync(record -> record);
+    }
+
+    @Override
+    public <T> CompletionStage<List<T>> listAsync(Function<Record, T> mapFunction) {
+        List<T> list = new ArrayList<>();
+        return forEachRecord(record -> list.add(mapFunction.apply(record))).thenApply(ignored -> list);
+    }
+
+    private Record toRecord(Map<String, Object> row) {
+        return converter.toRecord(keys, keyIndex, columnConverters, row);
+    }
+
+    private Record pollRecord() {
+        Map<String, Object> row = buffer.pollFirst();
+        Record record = peeked != null ? peeked : toRecord(row);
+        peeked = null;
+        return record;
+    }
+
+    private ResultSummary summary() {
+        return new GremlinServerResultSummary(statement, serverInfo);
+    }
+
+    private CompletableFuture<Map<String, Object>> peekRow() {
+        if (!buffer.isEmpty() || exhausted) {
+            return completedFuture(buffer.peekFirst());
+        }
+        return fetch().thenCompose(ignored -> peekRow());
+    }
+
+    /**
+     * Drains the buffer and fetches further rows.
+     * Batches that are already available are processed in a loop instead of nested stages.
+     */
+    private CompletableFuture<Void> forEachRecord(Consumer<Record> action) {
+        while (true) {
+            try {
+                while (!buffer.isEmpty()) {
+                    action.accept(pollRecord());
+                }
+            } catch (RuntimeException e) {
+                CompletableFuture<Void> failed = new CompletableFuture<>();
+                failed.completeExceptionally(e);
+                return failed;
+            }
+            if (exhausted) {
+                return completedFuture(null);
+            }
+            CompletableFuture<Void> fetched = fetch();
+            if (!fetched.isDone() || fetched.isCompletedExceptionally()) {
+                return fetched.thenCompose(ignored -> forEachRecord(action));
+            }
+        }
+    }
+
+    private CompletableFuture<Void> fetch() {
+        return fetcher.apply(fetchSize).thenAccept(rows -> {
+            if (rows.isEmpty()) {
+                exhausted = true;
+            } else {
+                buffer.addAll(rows);
+            }
+        });
+    }
+}
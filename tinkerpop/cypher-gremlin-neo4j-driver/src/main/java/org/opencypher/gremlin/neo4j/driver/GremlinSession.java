@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.neo4j.driver;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import org.neo4j.driver.v1.Record;
+import org.neo4j.driver.v1.Session;
+import org.neo4j.driver.v1.Statement;
+import org.neo4j.driver.v1.Value;
+
+/**
+ * A {@link Session} that can also run statements asynchronously.
+ * <p>
+ * All sessions of drivers created by {@link GremlinDatabase} implement this interface:
+ * <pre>
+ * {@code
+ *     GremlinSession session = (GremlinSession) driver.session();
+ *     session.runAsync("MATCH (n) RETURN n")
+ *         .thenCompose(cursor -> cursor.forEachAsync(record -> ...))
+ *         .whenComplete((summary, error) -> session.closeAsync());
+ * }
+ * </pre>
+ */
+public interface GremlinSession extends Session {
+
+    /**
+     * Runs a statement asynchronously.
+     * The returned stage is completed when the first batch of records is received.
+     * Further records are fetched as the cursor is consumed.
+     *
+     * @param statement statement to run
+     * @return stage of a result cursor
+     */
+    CompletionStage<GremlinStatementResultCursor> runAsync(Statement statement);
+
+    /**
+     * Runs a statement asynchronously.
+     *
+     * @param statementTemplate text of a Cypher statement
+     * @return stage of a result cursor
+     * @see #runAsync(Statement)
+     */
+    default CompletionStage<GremlinStatementResultCursor> runAsync(String statementTemplate) {
+        return runAsync(statementTemplate, new HashMap<>());
+    }
+
+    /**
+     * Runs a statement asynchronously.
+     *
+     * @param statementTemplate   text of a Cypher statement
+     * @param statementParameters statement parameters
+     * @return stage of a result cursor
+     * @see #runAsync(Statement)
+     */
+    default CompletionStage<GremlinStatementResultCursor> runAsync(String statementTemplate,
+                                                                   Map<String, Object> statementParameters) {
+        return runAsync(new Statement(statementTemplate, statementParameters));
+    }
+
+    /**
+     * Runs a statement asynchronously.
+     *
+     * @param statementTemplate text of a Cypher statement
+     * @param parameters        statement parameters, should be a map value
+     * @return stage of a result cursor
+     * @see #runAsync(Statement)
+     */
+    default CompletionStage<GremlinStatementResultCursor> runAsync(String statementTemplate, Value parameters) {
+        return runAsync(statementTemplate, parameters.asMap());
+    }
+
+    /**
+     * Runs a statement asynchronously.
+     *
+     * @param statementTemplate   text of a Cypher statement
+     * @param statementParameters statement parameters
+     * @return stage of a result cursor
+     * @see #runAsync(Statement)
+     */
+    default CompletionStage<GremlinStatementResultCursor> runAsync(String statementTemplate,
+                                                                   Record statementParameters) {
+        return runAsync(statementTemplate, statementParameters.asMap());
+    }
+
+    /**
+     * Closes the session without blocking.
+     *
+     * @return stage completed when the session is closed
+     */
+    CompletionStage<Void> closeAsync();
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.neo4j.driver;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import org.neo4j.driver.v1.Record;
+import org.neo4j.driver.v1.exceptions.NoSuchRecordException;
+import org.neo4j.driver.v1.summary.ResultSummary;
+import org.neo4j.driver.v1.util.Function;
+
+/**
+ * Result of an asynchronously run statement.
+ * <p>
+ * Records are fetched lazily in batches of {@link Config#fetchSize()}.
+ * Methods of a cursor should not be called concurrently:
+ * wait for the returned stage to complete before calling the next method.
+ *
+ * @see GremlinSession#runAsync(org.neo4j.driver.v1.Statement)
+ */
+public interface GremlinStatementResultCursor {
+
+    /**
+     * Returns keys of the records in the result.
+     *
+     * @return record keys, empty if the result is empty
+     */
+    List<String> keys();
+
+    /**
+     * Navigates to and returns the next record.
+     *
+     * @return stage of the next record, or {@code null} if there are no more records
+     */
+    CompletionStage<Record> nextAsync();
+
+    /**
+     * Returns the next record without navigating to it.
+     *
+     * @return stage of the next record, or {@code null} if there are no more records
+     */
+    CompletionStage<Record> peekAsync();
+
+    /**
+     * Returns the single remaining record.
+     * The stage is completed exceptionally with {@link NoSuchRecordException}
+     * if there are no records or more than one record left.
+     *
+     * @return stage of the single record
+     */
+    CompletionStage<Record> singleAsync();
+
+    /**
+     * Discards all remaining records.
+     *
+     * @return stage of the result summary
+     */
+    CompletionStage<ResultSummary> consumeAsync();
+
+    /**
+     * Applies an action to every remaining record.
+     *
+     * @param action action to apply
+     * @return stage of the result summary, completed when all records are processed
+     */
+    CompletionStage<ResultSummary> forEachAsync(Consumer<Record> action);
+
+    /**
+     * Collects all remaining records in a list.
+     *
+     * @return stage of the record list
+     */
+    CompletionStage<List<Record>> listAsync();
+
+    /**
+     * Maps all remaining records and collects the results in a list.
+     *
+     * @param mapFunction mapping function
+     * @param <T>         mapping result type
+     * @return stage of the mapping result list
+     */
+    <T> CompletionStage<List<T>> listAsync(Function<Record, T> mapFunction);
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.neo4j.driver;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.v1.Value;
+import org.neo4j.driver.v1.util.Function;
+import org.neo4j.driver.v1.util.Pair;
+
+/**
+ * Record that converts Gremlin column values to Cypher values on first access,
+ * so columns that are not read are never converted.
+ * Each column has its own conversion and the index of columns by key is built once per result.
+ * <p>
+ * Conversion is synchronized, so a record can be shared between threads like any other record.
+ */
+final class LazyRecord extends InternalRecord {
+    private final Value[] values;
+    private final Object[] rawValues;
+    private final Map<String, Integer> keyIndex;
+    private final List<Function<Object, Value>> converters;
+    private boolean allConverted;
+
+    LazyRecord(List<String> keys,
+               Map<String, Integer> keyIndex,
+               Object[] rawValues,
+               List<Function<Object, Value>> converters) {
+        this(keys, keyIndex, new Value[rawValues.length], rawValues, converters);
+    }
+
+    private LazyRecord(List<String> keys,
+                       Map<String, Integer> keyIndex,
+                       Value[] values,
+                       Object[] rawValues,
+                       List<Function<Object, Value>> converters) {
+        super(keys, values);
+        this.values = values;
+        this.rawValues = rawValues;
+        this.keyIndex = keyIndex;
+        this.converters = converters;
+    }
+
+    /**
+     * Indexes columns of a result by key.
+     *
+     * @param keys columns of the result
+     * @return column index by key
+     */
+    static Map<String, Integer> keyIndex(List<String> keys) {
+        Map<String, Integer> index = new HashMap<>(keys.size() * 4 / 3 + 1);
+        for (int i = 0; i < keys.size(); i++) {
+            index.putIfAbsent(keys.get(i), i);
+        }
+        return index;
+    }
+
+    @Override
+    public Value get(int index) {
+        if (index >= 0 && index < values.length) {
+            convert(index);
+        }
+        return super.get(index);
+    }
+
+    @Override
+    public Value get(String key) {
+        Integer index = keyIndex.get(key);
+        return index == null ? super.get(key) : get(index);
+    }
+
+    @Override
+    public int index(String key) {
+        Integer index = keyIndex.get(key);
+        if (index == null) {
+            throw new NoSuchElementException("Unknown key: " + key);
+        }
+        return index;
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return keyIndex.containsKey(key);
+    }
+
+    @Override
+    public List<Value> values() {
+        convertAll();
+        return super.values();
+    }
+
+    @Override
+    public List<Pair<String, Value>> fields() {
+        convertAll();
+        return super.fields();
+    }
+
+    @Override
+    public Map<String, Object> asMap() {
+        convertAll();
+        return super.asMap();
+    }
+
+    @Override
+    public <T> Map<String, T> asMap(Function<Value, T> mapper) {
+        convertAll();
+        return super.asMap(mapper);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        convertAll();
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        convertAll();
+        return super.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        convertAll();
+        return super.toString();
+    }
+
+    private synchronized void convert(int index) {
+        if (values[index] == null) {
+            values[index] = converters.get(index).apply(rawValues[index]);
+        }
+    }
+
+    private synchronized void convertAll() {
+        if (allConverted) {
+            return;
+        }
+        for (int i = 0; i < values.length; i++) {
+            convert(i);
+        }
+        allConverted = true;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.neo4j.driver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Before;
+import org.junit.Test;
+import org.opencypher.gremlin.client.CypherGremlinClient;
+import org.opencypher.gremlin.client.CypherResultSet;
+import org.opencypher.gremlin.client.CypherStatement;
+
+public class ClientPoolTest {
+    private static final long IDLE_TIMEOUT = 1000;
+
+    private final List<FakeClient> clients = new ArrayList<>();
+    private long now;
+
+    @Before
+    public void setUp() {
+        clients.clear();
+        now = 0;
+    }
+
+    @Test
+    public void shareClients() {
+        ClientPool pool = pool(2);
+
+        ClientPool.Lease lease1 = pool.lease();
+        ClientPool.Lease lease2 = pool.lease();
+        ClientPool.Lease lease3 = pool.lease();
+
+        assertThat(clients).hasSize(2);
+        assertThat(lease1.client()).isNotSameAs(lease2.client());
+        assertThat(lease3.client()).isSameAs(lease1.client());
+
+        ClientPoolMetrics metrics = pool.metrics();
+        assertThat(metrics.size()).isEqualTo(2);
+        assertThat(metrics.openClients()).isEqualTo(2);
+        assertThat(metrics.leasedSessions()).isEqualTo(3);
+        assertThat(metrics.totalLeases()).isEqualTo(3);
+        assertThat(metrics.createdClients()).isEqualTo(2);
+    }
+
+    @Test
+    public void leastLeased() {
+        ClientPool pool = pool(2);
+
+        List<ClientPool.Lease> leases = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            leases.add(pool.lease());
+        }
+        CypherGremlinClient first = leases.get(0).client();
+        leases.stream()
+            .filter(lease -> lease.client() == first)
+            .forEach(ClientPool.Lease::release);
+
+        assertThat(pool.lease().client()).isSameAs(first);
+    }
+
+    @Test
+    public void releaseOnce() {
+        ClientPool pool = pool(1);
+
+        ClientPool.Lease lease = pool.lease();
+        lease.release();
+        lease.release();
+
+        assertThat(pool.metrics().leasedSessions()).isEqualTo(0);
+    }
+
+    @Test
+    public void evictIdle() {
+        ClientPool pool = pool(1);
+
+        pool.lease().release();
+        now += IDLE_TIMEOUT;
+        pool.lease().release();
+
+        assertThat(clients).hasSize(1);
+        assertThat(clients.get(0).closed).isFalse();
+
+        now += IDLE_TIMEOUT + 1;
+        ClientPool.Lease lease = pool.lease();
+
+        assertThat(clients).hasSize(2);
+        assertThat(clients.get(0).closed).isTrue();
+        assertThat(lease.client()).isSameAs(clients.get(1));
+        assertThat(pool.metrics().evictedClients()).isEqualTo(1);
+    }
+
+    @Test
+    public void keepLeased() {
+        ClientPool pool = pool(1);
+
+        ClientPool.Lease lease = pool.lease();
+        now += IDLE_TIMEOUT * 10;
+        pool.lease().release();
+
+        assertThat(clients).hasSize(1);
+        assertThat(lease.client()).isSameAs(clients.get(0));
+    }
+
+    @Test
+    public void close() {
+        ClientPool pool = pool(2);
+        pool.lease();
+        pool.lease();
+
+        pool.close();
+
+        assertThat(clients).allMatch(client -> client.closed);
+        assertThat(pool.metrics().openClients()).isEqualTo(0);
+    }
+
+    private ClientPool pool(int size) {
+        return new ClientPool(() -> {
+            FakeClient client = new FakeClient();
+            clients.add(client);
+            return client;
+        }, size, IDLE_TIMEOUT, () -> now);
+    }
+
+    private static class FakeClient implements CypherGremlinClient {
+        private boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public CompletableFuture<CypherResultSet> submitAsync(CypherStatement statement) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -55,4 +55,22 @@ public class GremlinGraphDriverTest {
             .extracting("n.name")
             .containsExactly("marko");
     }
+
+    @Test
+    public void tinkerGraphAsync() {
+        TinkerGraph tinkerGraph = TinkerFactory.createModern();
+        GraphTraversalSource graphTraversalSource = tinkerGraph.traversal();
+        GremlinGraphDriver driver = new GremlinGraphDriver(graphTraversalSource);
+
+        List<String> names;
+        try (GremlinSession session = driver.session()) {
+            names = session.runAsync("MATCH (n:person) RETURN n.name AS name ORDER BY name")
+                .thenCompose(cursor -> cursor.listAsync(record -> record.get("name").asString()))
+                .toCompletableFuture()
+                .join();
+        }
+
+        assertThat(names)
+            .containsExactly("josh", "marko", "peter", "vadas");
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.neo4j.driver;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.IntFunction;
+import org.junit.Test;
+import org.neo4j.driver.v1.Statement;
+import org.neo4j.driver.v1.exceptions.NoSuchRecordException;
+import org.opencypher.gremlin.neo4j.driver.GremlinServerDriver.GremlinServerInfo;
+
+public class GremlinServerStatementResultCursorTest {
+    private static final Statement statement = new Statement("RETURN 1;");
+    private static final GremlinServerInfo serverInfo = new GremlinServerInfo("localhost:1111");
+    private static final GremlinCypherValueConverter converter = new GremlinCypherValueConverter(false);
+    private static final String KEY1 = "key1";
+    private static final String KEY2 = "key2";
+
+    @Test
+    public void nextAcrossBatches() {
+        BatchFetcher fetcher = new BatchFetcher(asList(getRow(1), getRow(2), getRow(3)));
+        GremlinStatementResultCursor cursor = cursor(fetcher, 2);
+
+        assertThat(cursor.keys()).containsExactlyInAnyOrder(KEY1, KEY2);
+        assertThat(fetcher.fetches).isEqualTo(1);
+        assertThat(join(cursor.peekAsync()).get(KEY1).asInt()).isEqualTo(1);
+        assertThat(join(cursor.nextAsync()).get(KEY1).asInt()).isEqualTo(1);
+        assertThat(join(cursor.nextAsync()).get(KEY1).asInt()).isEqualTo(2);
+        assertThat(fetcher.fetches).isEqualTo(1);
+        assertThat(join(cursor.nextAsync()).get(KEY1).asInt()).isEqualTo(3);
+        assertThat(fetcher.fetches).isEqualTo(2);
+        assertThat(join(cursor.nextAsync())).isNull();
+        assertThat(join(cursor.peekAsync())).isNull();
+    }
+
+    @Test
+    public void listAsync() {
+        BatchFetcher fetcher = new BatchFetcher(asList(getRow(1), getRow(2), getRow(3)));
+        GremlinStatementResultCursor cursor = cursor(fetcher, 2);
+
+        List<String> values = join(cursor.listAsync(r -> r.get(KEY2).asString()));
+
+        assertThat(values).containsExactly("value1", "value2", "value3");
+        assertThat(fetcher.fetches).isEqualTo(3);
+    }
+
+    @Test
+    public void consumeAsync() {
+        GremlinStatementResultCursor cursor = cursor(new BatchFetcher(asList(getRow(1), getRow(2))), 1);
+
+        assertThat(join(cursor.consumeAsync()).server()).isEqualTo(serverInfo);
+        assertThat(join(cursor.nextAsync())).isNull();
+    }
+
+    @Test
+    public void empty() {
+        GremlinStatementResultCursor cursor = cursor(new BatchFetcher(emptyList()), 2);
+
+        assertThat(cursor.keys()).isEmpty();
+        assertThat(join(cursor.listAsync())).isEmpty();
+    }
+
+    @Test
+    public void singleAsync() {
+        GremlinStatementResultCursor cursor = cursor(new BatchFetcher(singletonList(getRow(1))), 2);
+
+        assertThat(join(cursor.singleAsync()).get(KEY1).asInt()).isEqualTo(1);
+    }
+
+    @Test
+    public void singleAsyncMore() {
+        GremlinStatementResultCursor cursor = cursor(new BatchFetcher(asList(getRow(1), getRow(2))), 1);
+
+        assertThatThrownBy(() -> join(cursor.singleAsync()))
+            .hasCauseInstanceOf(NoSuchRecordException.class);
+    }
+
+    private static GremlinStatementResultCursor cursor(BatchFetcher fetcher, int fetchSize) {
+        return GremlinServerStatementResultCursor.create(serverInfo, statement, fetcher, fetchSize, converter).join();
+    }
+
+    private static <T> T join(CompletionStage<T> stage) {
+        return stage.toCompletableFuture().join();
+    }
+
+    private Map<String, Object> getRow(int i) {
+        Map<String, Object> map = new HashMap<>();
+        map.put(KEY1, i);
+        map.put(KEY2, "value" + i);
+        return map;
+    }
+
+    private static class BatchFetcher implements IntFunction<CompletableFuture<List<Map<String, Object>>>> {
+        private final List<Map<String, Object>> rows;
+        private int position;
+        private int fetches;
+
+        BatchFetcher(List<Map<String, Object>> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public CompletableFuture<List<Map<String, Object>>> apply(int max) {
+            fetches++;
+            int end = Math.min(position + max, rows.size());
+            List<Map<String, Object>> batch = new ArrayList<>(rows.subList(position, end));
+            position = end;
+            return CompletableFuture.completedFuture(batch);
+        }
+    }
+}
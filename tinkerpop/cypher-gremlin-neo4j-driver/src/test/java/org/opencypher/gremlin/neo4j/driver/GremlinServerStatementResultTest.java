@@ -18,16 +18,24 @@ package org.opencypher.gremlin.neo4j.driver;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.opencypher.gremlin.translation.ReturnProperties.ID;
+import static org.opencypher.gremlin.translation.ReturnProperties.LABEL;
+import static org.opencypher.gremlin.translation.ReturnProperties.NODE_TYPE;
+import static org.opencypher.gremlin.translation.ReturnProperties.TYPE;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.junit.Test;
+import org.neo4j.driver.v1.Record;
 import org.neo4j.driver.v1.Statement;
 import org.neo4j.driver.v1.StatementResult;
 import org.neo4j.driver.v1.exceptions.NoSuchRecordException;
+import org.neo4j.driver.v1.types.Node;
 import org.opencypher.gremlin.neo4j.driver.GremlinServerDriver.GremlinServerInfo;
+import org.opencypher.gremlin.translation.CypherAst;
 
 public class GremlinServerStatementResultTest {
     private static final Statement statement = new Statement("RETURN 1;");
@@ -112,6 +120,73 @@ public class GremlinServerStatementResultTest {
         statementResult.single();
     }
 
+    @Test
+    public void peekReturnsNextRecord() {
+        List<Map<String, Object>> results = asList(getRow(1), getRow(2));
+        StatementResult statementResult = new GremlinServerStatementResult(serverInfo, statement, results.iterator(), converter);
+
+        Record peeked = statementResult.peek();
+
+        assertThat(statementResult.next()).isSameAs(peeked);
+        assertThat(statementResult.next().get(KEY1).asInt()).isEqualTo(2);
+    }
+
+    @Test
+    public void emptyKeys() {
+        StatementResult statementResult = new GremlinServerStatementResult(serverInfo,
+            statement, new ArrayList<Map<String, Object>>().iterator(), converter);
+
+        assertThat(statementResult.keys()).isEmpty();
+    }
+
+    @Test
+    public void convertOnAccess() {
+        Map<String, Object> node = new HashMap<>();
+        node.put(TYPE, NODE_TYPE);
+        node.put(ID, "notNumeric");
+        node.put(LABEL, "person");
+        Map<String, Object> row = getRow(1);
+        row.put("n", node);
+        StatementResult statementResult = new GremlinServerStatementResult(serverInfo,
+            statement, singletonList(row).iterator(), converter);
+
+        Record record = statementResult.single();
+
+        assertThat(record.get(KEY1).asInt()).isEqualTo(1);
+        assertThatThrownBy(() -> record.get("n"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void typedColumns() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("n", getNode(1L));
+        row.put("l", asList(getNode(2), null));
+        row.put("i", 3L);
+        StatementResult statementResult = new GremlinServerStatementResult(serverInfo,
+            statement, singletonList(row).iterator(), converter,
+            CypherAst.parse("MATCH (n) RETURN n, [n, null] AS l, 3 AS i").getReturnTypes());
+
+        Record record = statementResult.single();
+
+        Node node = record.get("n").asNode();
+        assertThat(node.id()).isEqualTo(1L);
+        assertThat(node.labels()).containsExactly("person");
+        assertThat(node.get("name").asString()).isEqualTo("name1");
+        assertThat(record.get("l").get(0).asNode().id()).isEqualTo(2L);
+        assertThat(record.get("l").get(1).isNull()).isTrue();
+        assertThat(record.get("i").asLong()).isEqualTo(3L);
+    }
+
+    private Map<String, Object> getNode(Object id) {
+        Map<String, Object> node = new HashMap<>();
+        node.put(TYPE, NODE_TYPE);
+        node.put(ID, id);
+        node.put(LABEL, "person");
+        node.put("name", "name" + id);
+        return node;
+    }
+
     private Map<String, Object> getRow(int i) {
         Map<String, Object> map = new HashMap<>();
         map.put(KEY1, i);
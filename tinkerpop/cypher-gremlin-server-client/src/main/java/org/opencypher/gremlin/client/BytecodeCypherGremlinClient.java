@@ -27,7 +27,8 @@ import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.ResultSet;
 import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
-import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.client.CypherTranslationCache.CachedTranslation;
+import org.opencypher.gremlin.translation.TranslationPlan;
 import org.opencypher.gremlin.translation.translator.Translator;
 import org.opencypher.gremlin.traversal.ParameterNormalizer;
 import org.opencypher.gremlin.traversal.ReturnNormalizer;
@@ -36,10 +37,18 @@ final class BytecodeCypherGremlinClient implements CypherGremlinClient {
 
     private final Client client;
     private final Supplier<Translator<Bytecode, P>> translatorSupplier;
+    private final CypherTranslationCache translationCache;
 
     BytecodeCypherGremlinClient(Client client, Supplier<Translator<Bytecode, P>> translatorSupplier) {
+        this(client, translatorSupplier, CypherTranslationCache.disabled());
+    }
+
+    BytecodeCypherGremlinClient(Client client,
+                                Supplier<Translator<Bytecode, P>> translatorSupplier,
+                                CypherTranslationCache translationCache) {
         this.client = client;
         this.translatorSupplier = translatorSupplier;
+        this.translationCache = translationCache;
     }
 
     @Override
@@ -50,32 +59,33 @@ final class BytecodeCypherGremlinClient implements CypherGremlinClient {
     @Override
     public CompletableFuture<CypherResultSet> submitAsync(CypherStatement statement) {
         Map<String, Object> normalizedParameters = ParameterNormalizer.normalize(statement.parameters());
-        CypherAst ast;
+        Translator<Bytecode, P> translator = translatorSupplier.get();
+        CachedTranslation translation;
         try {
-            ast = CypherAst.parse(statement.query(), normalizedParameters);
+            translation = translationCache.get(statement.query(), normalizedParameters, translator);
         } catch (Exception e) {
             return completedFuture(exceptional(e));
         }
 
-        if (ast.getOptions().contains(EXPLAIN)) {
-            return completedFuture(explain(ast));
+        TranslationPlan plan = translation.plan();
+        if (plan.getOptions().contains(EXPLAIN)) {
+            return completedFuture(explain(plan, translator, normalizedParameters));
         }
 
-        Translator<Bytecode, P> translator = translatorSupplier.get();
         Bytecode bytecode;
         try {
-            bytecode = ast.buildTranslation(translator);
+            bytecode = translation.write(translator, normalizedParameters);
         } catch (Exception e) {
             return completedFuture(exceptional(e));
         }
 
         CompletableFuture<ResultSet> resultSetFuture = client.submitAsync(bytecode, statement.requestOptions());
-        ReturnNormalizer returnNormalizer = ReturnNormalizer.create(ast.getReturnTypes());
+        ReturnNormalizer returnNormalizer = ReturnNormalizer.create(plan.getReturnTypes());
         return resultSetFuture
             .thenApply(ResultSet::iterator)
             .thenApply(resultIterator -> new CypherResultSet(
                 new TraverserIterator(resultIterator),
                 returnNormalizer::normalize
-            ));
+            ).withReturnTypes(plan.getReturnTypes()));
     }
 }
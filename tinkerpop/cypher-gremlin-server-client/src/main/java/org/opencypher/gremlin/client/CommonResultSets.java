@@ -22,7 +22,9 @@ import java.util.NoSuchElementException;
 import java.util.function.Supplier;
 import org.apache.tinkerpop.gremlin.driver.Result;
 import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.TranslationPlan;
 import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
+import org.opencypher.gremlin.translation.ir.TranslationWriter;
 import org.opencypher.gremlin.translation.translator.Translator;
 
 final class CommonResultSets {
@@ -41,6 +43,19 @@ final class CommonResultSets {
         return new CypherResultSet(iterator);
     }
 
+    static CypherResultSet explain(TranslationPlan plan, Translator<?, ?> translator, Map<String, Object> parameters) {
+        Map<String, Object> explanation = new LinkedHashMap<>();
+        Translator.FlavorBuilder<String, GroovyPredicate> builder = Translator.builder()
+            .gremlinGroovy()
+            .inlineParameters();
+        translator.features().forEach(builder::enable);
+        Translator<String, GroovyPredicate> explainTranslator = builder.build(translator.flavor());
+        explanation.put("translation", TranslationWriter.write(plan.ir(), explainTranslator, parameters));
+        explanation.put("options", plan.getOptions().toString());
+        Iterator<Result> iterator = singletonIterator(() -> new Result(explanation));
+        return new CypherResultSet(iterator);
+    }
+
     static CypherResultSet exceptional(Throwable throwable) {
         return new CypherResultSet(singletonIterator(() -> {
             throw new RuntimeException(throwable);
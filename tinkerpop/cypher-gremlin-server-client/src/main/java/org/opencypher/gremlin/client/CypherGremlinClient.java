@@ -20,6 +20,7 @@ import static java.util.Collections.emptyMap;
 import java.io.Closeable;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.ResultSet;
@@ -93,6 +94,42 @@ public interface CypherGremlinClient extends Closeable {
         return new GroovyCypherGremlinClient(client, translatorSupplier);
     }
 
+    /**
+     * Creates a {@link CypherGremlinClient} that can send Cypher queries
+     * to any Gremlin Server or a compatible graph database as Gremlin-Groovy.
+     * <p>
+     * Cypher to Gremlin translation is done on the client's thread,
+     * before sending the query to Gremlin Server.
+     * Translations of repeated queries are taken from the provided cache.
+     *
+     * @param client           Gremlin client
+     * @param flavor           translation flavor
+     * @param translationCache translation cache
+     * @return Cypher-enabled client
+     */
+    static CypherGremlinClient translating(Client client, TranslatorFlavor flavor, CypherTranslationCache translationCache) {
+        return translating(client, () -> Translator.builder().gremlinGroovy().build(flavor), translationCache);
+    }
+
+    /**
+     * Creates a {@link CypherGremlinClient} that can send Cypher queries
+     * to any Gremlin Server or a compatible graph database as Gremlin-Groovy.
+     * <p>
+     * Cypher to Gremlin translation is done on the client's thread,
+     * before sending the query to Gremlin Server.
+     * Translations of repeated queries are taken from the provided cache.
+     *
+     * @param client             Gremlin client
+     * @param translatorSupplier translator configuration supplier
+     * @param translationCache   translation cache
+     * @return Cypher-enabled client
+     */
+    static CypherGremlinClient translating(Client client,
+                                           Supplier<Translator<String, GroovyPredicate>> translatorSupplier,
+                                           CypherTranslationCache translationCache) {
+        return new GroovyCypherGremlinClient(client, translatorSupplier, translationCache);
+    }
+
     /**
      * Creates a {@link CypherGremlinClient} that can send Cypher queries
      * to any Gremlin Server or a compatible graph database as Gremlin bytecode.
@@ -137,12 +174,51 @@ public interface CypherGremlinClient extends Closeable {
         return new BytecodeCypherGremlinClient(client, translatorSupplier);
     }
 
+    /**
+     * Creates a {@link CypherGremlinClient} that can send Cypher queries
+     * to any Gremlin Server or a compatible graph database as Gremlin bytecode.
+     * <p>
+     * Cypher to Gremlin translation is done on the client's thread,
+     * before sending the query to Gremlin Server.
+     * Translations of repeated queries are taken from the provided cache.
+     *
+     * @param client           Gremlin client
+     * @param flavor           translation flavor
+     * @param translationCache translation cache
+     * @return Cypher-enabled client
+     */
+    static CypherGremlinClient bytecode(Client client, TranslatorFlavor flavor, CypherTranslationCache translationCache) {
+        return bytecode(client, () -> Translator.builder().bytecode().build(flavor), translationCache);
+    }
+
+    /**
+     * Creates a {@link CypherGremlinClient} that can send Cypher queries
+     * to any Gremlin Server or a compatible graph database as Gremlin bytecode.
+     * <p>
+     * Cypher to Gremlin translation is done on the client's thread,
+     * before sending the query to Gremlin Server.
+     * Translations of repeated queries are taken from the provided cache.
+     *
+     * @param client             Gremlin client
+     * @param translatorSupplier translator configuration supplier
+     * @param translationCache   translation cache
+     * @return Cypher-enabled client
+     */
+    static CypherGremlinClient bytecode(Client client,
+                                        Supplier<Translator<Bytecode, P>> translatorSupplier,
+                                        CypherTranslationCache translationCache) {
+        return new BytecodeCypherGremlinClient(client, translatorSupplier, translationCache);
+    }
+
     /**
      * Creates a {@link CypherGremlinClient} that executes Cypher queries
      * directly on the configured {@link GraphTraversalSource}.
      * <p>
      * Cypher to Gremlin translation is done on the client's thread.
      * Graph traversal execution is not synchronized.
+     * <p>
+     * Results of read-only queries are pulled from the traversal lazily, as the {@link CypherResultSet} is consumed.
+     * Queries that modify the graph are executed completely before returning.
      *
      * @param gts source of {@link GraphTraversal} to translate to
      * @return Cypher-enabled client
@@ -151,6 +227,25 @@ public interface CypherGremlinClient extends Closeable {
         return new InMemoryCypherGremlinClient(gts);
     }
 
+    /**
+     * Creates a {@link CypherGremlinClient} that executes Cypher queries
+     * directly on the configured {@link GraphTraversalSource}.
+     * <p>
+     * Cypher to Gremlin translation and traversal execution up to the first result
+     * are done on the provided executor, so {@link #submitAsync(CypherStatement)} does not block.
+     * Further results of read-only queries are pulled from the traversal lazily,
+     * as the {@link CypherResultSet} is consumed.
+     * Queries that modify the graph are executed completely on the executor.
+     * Graph traversal execution is not synchronized.
+     *
+     * @param gts      source of {@link GraphTraversal} to translate to
+     * @param executor executor for query execution
+     * @return Cypher-enabled client
+     */
+    static CypherGremlinClient inMemory(GraphTraversalSource gts, Executor executor) {
+        return new InMemoryCypherGremlinClient(gts, executor);
+    }
+
     /**
      * Creates a {@link CypherGremlinClient} that can send Cypher queries
      * to any Gremlin Server or a compatible graph database as Gremlin-Groovy.
@@ -162,7 +257,7 @@ public interface CypherGremlinClient extends Closeable {
      * the entire result stream. See {@link ResultSet#all()}.
      * <p>
      * This is not optimal for large result sets as the results will be held in memory at once.
-     * Use only for compatibility reasons.
+     * Use only for compatibility reasons, or see {@link #retrieving(Client, TranslatorFlavor, int)}.
      *
      * @see #translating(Client, TranslatorFlavor)
      * @param client Gremlin client
@@ -173,6 +268,35 @@ public interface CypherGremlinClient extends Closeable {
         return new SyncGroovyCypherGremlinClient(client, () -> Translator.builder().gremlinGroovy().build(flavor));
     }
 
+    /**
+     * Creates a {@link CypherGremlinClient} that can send Cypher queries
+     * to any Gremlin Server or a compatible graph database as Gremlin-Groovy.
+     * <p>
+     * Same as {@link #retrieving(Client, TranslatorFlavor)}, but instead of waiting for the entire result stream,
+     * the result set is available as soon as the first {@code prefetch} results arrive,
+     * and results are taken in windows of {@code prefetch} items as the result set is iterated.
+     * See {@link ResultSet#some(int)}.
+     * <p>
+     * This does not bound client memory: the driver buffers all results received from the server
+     * until they are taken. Use the request {@code batchSize} to control how results are sent.
+     *
+     * @see #retrieving(Client, TranslatorFlavor)
+     * @param client   Gremlin client
+     * @param flavor   translation flavor
+     * @param prefetch number of results to take at once
+     * @return Cypher-enabled client
+     */
+    static CypherGremlinClient retrieving(Client client, TranslatorFlavor flavor, int prefetch) {
+        if (prefetch < 1) {
+            throw new IllegalArgumentException("Prefetch window should be positive: " + prefetch);
+        }
+        return new SyncGroovyCypherGremlinClient(
+            client,
+            () -> Translator.builder().gremlinGroovy().build(flavor),
+            prefetch
+        );
+    }
+
     /**
      * Closes the underlying Gremlin client.
      */
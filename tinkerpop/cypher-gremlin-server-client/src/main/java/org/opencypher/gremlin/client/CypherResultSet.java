@@ -17,17 +17,26 @@ package org.opencypher.gremlin.client;
 
 import static java.util.Spliterator.IMMUTABLE;
 import static java.util.Spliterator.NONNULL;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Spliterators.spliteratorUnknownSize;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.toList;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.apache.tinkerpop.gremlin.driver.Result;
+import org.apache.tinkerpop.gremlin.driver.ResultSet;
+import org.opencypher.v9_0.util.symbols.CypherType;
 
 /**
  * A Gremlin query result iterator wrapper.
@@ -35,21 +44,75 @@ import org.apache.tinkerpop.gremlin.driver.Result;
  * In the case of most {@link CypherGremlinClient} configurations,
  * instances of this class wrap a Gremlin {@link org.apache.tinkerpop.gremlin.driver.ResultSet} iterator,
  * so this class is not thread-safe, by extension.
+ * <p>
+ * Result sets that pull results lazily (e.g. from an in-memory traversal) hold resources until
+ * all results are consumed or the result set (or its {@link #stream()}) is closed.
+ * Close the result set if it is not consumed completely, e.g. with {@link Stream#limit(long)}.
+ * <p>
+ * Results can also be retrieved in batches without blocking with {@link #fetchAsync(int)}.
  *
  * @see CypherGremlinClient
  */
-public final class CypherResultSet implements Iterable<Map<String, Object>> {
+public final class CypherResultSet implements Iterable<Map<String, Object>>, AutoCloseable {
 
     private final Iterator<Result> resultIterator;
     private Function<Object, Map<String, Object>> returnNormalizer;
+    private final AutoCloseable resource;
+    private final IntFunction<CompletableFuture<List<Result>>> resultFetcher;
+    private Map<String, CypherType> returnTypes = emptyMap();
+    private boolean closed;
 
     CypherResultSet(Iterator<Result> resultIterator) {
         this(resultIterator, CypherResultSet::castToMap);
     }
 
+    CypherResultSet(Iterator<Result> resultIterator, AutoCloseable resource) {
+        this(resultIterator, CypherResultSet::castToMap, resource);
+    }
+
     CypherResultSet(Iterator<Result> resultIterator, Function<Object, Map<String, Object>> returnNormalizer) {
+        this(resultIterator, returnNormalizer, () -> {
+        });
+    }
+
+    CypherResultSet(Iterator<Result> resultIterator,
+                    Function<Object, Map<String, Object>> returnNormalizer,
+                    AutoCloseable resource) {
+        this(resultIterator, returnNormalizer, resource, null);
+    }
+
+    CypherResultSet(ResultSet resultSet) {
+        this(resultSet, CypherResultSet::castToMap);
+    }
+
+    CypherResultSet(ResultSet resultSet, Function<Object, Map<String, Object>> returnNormalizer) {
+        this(resultSet.iterator(), returnNormalizer, () -> {
+        }, resultSet::some);
+    }
+
+    private CypherResultSet(Iterator<Result> resultIterator,
+                            Function<Object, Map<String, Object>> returnNormalizer,
+                            AutoCloseable resource,
+                            IntFunction<CompletableFuture<List<Result>>> resultFetcher) {
         this.resultIterator = resultIterator;
         this.returnNormalizer = returnNormalizer;
+        this.resource = resource;
+        this.resultFetcher = resultFetcher;
+    }
+
+    CypherResultSet withReturnTypes(Map<String, CypherType> returnTypes) {
+        this.returnTypes = returnTypes;
+        return this;
+    }
+
+    /**
+     * Returns types of the returned columns, when they are known to the client.
+     * Empty, e.g. when the query is translated by Gremlin Server.
+     *
+     * @return types of the returned columns by name
+     */
+    public Map<String, CypherType> returnTypes() {
+        return returnTypes;
     }
 
     /**
@@ -73,11 +136,12 @@ public final class CypherResultSet implements Iterable<Map<String, Object>> {
 
     /**
      * Returns a sequential stream of query results.
+     * Closing the stream closes this result set.
      *
      * @return a sequential stream of query results
      */
     public Stream<Map<String, Object>> stream() {
-        return StreamSupport.stream(spliterator(), false);
+        return StreamSupport.stream(spliterator(), false).onClose(this::close);
     }
 
     /**
@@ -90,11 +154,21 @@ public final class CypherResultSet implements Iterable<Map<String, Object>> {
         return new Iterator<Map<String, Object>>() {
             @Override
             public boolean hasNext() {
-                return resultIterator.hasNext();
+                if (closed) {
+                    return false;
+                }
+                boolean hasNext = resultIterator.hasNext();
+                if (!hasNext) {
+                    close();
+                }
+                return hasNext;
             }
 
             @Override
             public Map<String, Object> next() {
+                if (closed) {
+                    throw new NoSuchElementException();
+                }
                 Result result = resultIterator.next();
                 Object row = result.getObject();
                 return returnNormalizer.apply(row);
@@ -102,6 +176,68 @@ public final class CypherResultSet implements Iterable<Map<String, Object>> {
         };
     }
 
+    /**
+     * Retrieves the next batch of query results.
+     * <p>
+     * When results are streamed from Gremlin Server, the returned future is completed
+     * as soon as results are received, without blocking any thread while waiting for them.
+     * Otherwise, e.g. for in-memory traversals, results are pulled on the calling thread.
+     * <p>
+     * Only one batch should be requested at a time, and batches should not be mixed with {@link #iterator()}.
+     *
+     * @param max maximum number of results to retrieve
+     * @return future of up to {@code max} next results, empty if all results were consumed
+     */
+    public CompletableFuture<List<Map<String, Object>>> fetchAsync(int max) {
+        if (closed) {
+            return completedFuture(emptyList());
+        }
+        CompletableFuture<List<Result>> results = resultFetcher != null ? resultFetcher.apply(max) : pull(max);
+        return results.thenApply(batch -> {
+            if (batch.isEmpty()) {
+                close();
+            }
+            List<Map<String, Object>> rows = new ArrayList<>(batch.size());
+            for (Result result : batch) {
+                rows.add(returnNormalizer.apply(result.getObject()));
+            }
+            return rows;
+        });
+    }
+
+    private CompletableFuture<List<Result>> pull(int max) {
+        List<Result> batch = new ArrayList<>();
+        try {
+            while (batch.size() < max && resultIterator.hasNext()) {
+                batch.add(resultIterator.next());
+            }
+        } catch (RuntimeException e) {
+            CompletableFuture<List<Result>> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        return completedFuture(batch);
+    }
+
+    /**
+     * Releases resources held by this result set, e.g. stops the underlying traversal.
+     * Called automatically when all results are consumed.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            resource.close();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private static Map<String, Object> castToMap(Object e) {
         return (Map<String, Object>) e;
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.client;
+
+import static java.util.Collections.emptyMap;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.TranslationCache;
+import org.opencypher.gremlin.translation.TranslationListener;
+import org.opencypher.gremlin.translation.TranslationMetrics;
+import org.opencypher.gremlin.translation.TranslationPhase;
+import org.opencypher.gremlin.translation.TranslationPlan;
+import org.opencypher.gremlin.translation.groovy.GroovyGremlinBindings;
+import org.opencypher.gremlin.translation.ir.TranslationWriter;
+import org.opencypher.gremlin.translation.translator.GraphStatistics;
+import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFeature;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
+import org.opencypher.gremlin.traversal.ProcedureContext;
+
+/**
+ * Cache of client-side Cypher to Gremlin translations.
+ * <p>
+ * Translations are cached by query text, translator flavor, features and translation target,
+ * so a single cache can be shared by several clients.
+ * Gremlin-Groovy translations that keep parameters as bindings are cached as strings,
+ * other translations are written from the cached intermediate representation on every call.
+ *
+ * @see CypherGremlinClient#translating(org.apache.tinkerpop.gremlin.driver.Client, TranslatorFlavor, CypherTranslationCache)
+ * @see CypherGremlinClient#bytecode(org.apache.tinkerpop.gremlin.driver.Client, TranslatorFlavor, CypherTranslationCache)
+ */
+public final class CypherTranslationCache {
+    private final TranslationCache<Key, CachedTranslation> cache;
+    private final TranslationMetrics metrics = new TranslationMetrics();
+
+    /**
+     * Creates a cache that holds at most {@code maximumSize} translations.
+     *
+     * @param maximumSize maximum number of cached translations
+     */
+    public CypherTranslationCache(int maximumSize) {
+        this.cache = new TranslationCache<>(maximumSize);
+    }
+
+    static CypherTranslationCache disabled() {
+        return new CypherTranslationCache(0);
+    }
+
+    /**
+     * Returns a snapshot of cache size, hit ratio and other counters.
+     *
+     * @return cache statistics
+     */
+    public TranslationCache.Stats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Returns timings of translation phases and rewriters, and intermediate representation sizes,
+     * for all translations made through this cache.
+     *
+     * @return translation metrics
+     */
+    public TranslationMetrics metrics() {
+        return metrics;
+    }
+
+    CachedTranslation get(String cypher, Map<String, Object> parameters, Translator<?, ?> translator) {
+        return cache.get(
+            new Key(cypher, translator),
+            t -> t.plan().isReusableWith(parameters),
+            k -> new CachedTranslation(
+                CypherAst.parse(cypher, parameters, emptyMap(), metrics)
+                    .plan(translator, ProcedureContext.empty()),
+                metrics
+            )
+        );
+    }
+
+    static final class CachedTranslation {
+        private final TranslationPlan plan;
+        private final TranslationListener listener;
+        private volatile Object translation;
+
+        private CachedTranslation(TranslationPlan plan, TranslationListener listener) {
+            this.plan = plan;
+            this.listener = listener;
+        }
+
+        TranslationPlan plan() {
+            return plan;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T, P> T write(Translator<T, P> translator, Map<String, Object> parameters) {
+            if (!(translator.bindings() instanceof GroovyGremlinBindings)) {
+                return timedWrite(translator, parameters);
+            }
+            Object result = translation;
+            if (result == null) {
+                result = timedWrite(translator, parameters);
+                translation = result;
+            }
+            return (T) result;
+        }
+
+        private <T, P> T timedWrite(Translator<T, P> translator, Map<String, Object> parameters) {
+            long start = System.nanoTime();
+            T result = TranslationWriter.write(plan.ir(), translator, parameters);
+            listener.phaseCompleted(TranslationPhase.WRITING, System.nanoTime() - start);
+            return result;
+        }
+    }
+
+    private static final class Key {
+        private final String cypher;
+        private final TranslatorFlavor flavor;
+        private final Set<TranslatorFeature> features;
+        private final GraphStatistics statistics;
+        private final int hopLimit;
+        private final Class<?> target;
+
+        private Key(String cypher, Translator<?, ?> translator) {
+            this.cypher = cypher;
+            this.flavor = translator.flavor();
+            this.features = new HashSet<>(translator.features());
+            this.statistics = translator.statistics();
+            this.hopLimit = translator.hopLimit();
+            this.target = translator.steps().getClass();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key that = (Key) o;
+            return Objects.equals(cypher, that.cypher) &&
+                Objects.equals(flavor, that.flavor) &&
+                Objects.equals(features, that.features) &&
+                Objects.equals(statistics, that.statistics) &&
+                hopLimit == that.hopLimit &&
+                Objects.equals(target, that.target);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(cypher, flavor, features, statistics, hopLimit, target);
+        }
+    }
+}
@@ -27,7 +27,8 @@ import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.ResultSet;
 import org.apache.tinkerpop.gremlin.driver.Tokens;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
-import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.client.CypherTranslationCache.CachedTranslation;
+import org.opencypher.gremlin.translation.TranslationPlan;
 import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
 import org.opencypher.gremlin.translation.translator.Translator;
 import org.opencypher.gremlin.traversal.ParameterNormalizer;
@@ -37,10 +38,18 @@ final class GroovyCypherGremlinClient implements CypherGremlinClient {
 
     private final Client client;
     private final Supplier<Translator<String, GroovyPredicate>> translatorSupplier;
+    private final CypherTranslationCache translationCache;
 
     GroovyCypherGremlinClient(Client client, Supplier<Translator<String, GroovyPredicate>> translatorSupplier) {
+        this(client, translatorSupplier, CypherTranslationCache.disabled());
+    }
+
+    GroovyCypherGremlinClient(Client client,
+                              Supplier<Translator<String, GroovyPredicate>> translatorSupplier,
+                              CypherTranslationCache translationCache) {
         this.client = client;
         this.translatorSupplier = translatorSupplier;
+        this.translationCache = translationCache;
     }
 
     @Override
@@ -51,21 +60,22 @@ final class GroovyCypherGremlinClient implements CypherGremlinClient {
     @Override
     public CompletableFuture<CypherResultSet> submitAsync(CypherStatement statement) {
         Map<String, Object> normalizedParameters = ParameterNormalizer.normalize(statement.parameters());
-        CypherAst ast;
+        Translator<String, GroovyPredicate> translator = translatorSupplier.get();
+        CachedTranslation translation;
         try {
-            ast = CypherAst.parse(statement.query(), normalizedParameters);
+            translation = translationCache.get(statement.query(), normalizedParameters, translator);
         } catch (Exception e) {
             return completedFuture(exceptional(e));
         }
 
-        if (ast.getOptions().contains(EXPLAIN)) {
-            return completedFuture(explain(ast));
+        TranslationPlan plan = translation.plan();
+        if (plan.getOptions().contains(EXPLAIN)) {
+            return completedFuture(explain(plan, translator, normalizedParameters));
         }
 
-        Translator<String, GroovyPredicate> translator = translatorSupplier.get();
         String gremlin;
         try {
-            gremlin = ast.buildTranslation(translator);
+            gremlin = translation.write(translator, normalizedParameters);
         } catch (Exception e) {
             return completedFuture(exceptional(e));
         }
@@ -73,10 +83,10 @@ final class GroovyCypherGremlinClient implements CypherGremlinClient {
         RequestMessage request = buildRequest(gremlin, normalizedParameters, statement).create();
 
         CompletableFuture<ResultSet> resultSetFuture = client.submitAsync(request);
-        ReturnNormalizer returnNormalizer = ReturnNormalizer.create(ast.getReturnTypes());
+        ReturnNormalizer returnNormalizer = ReturnNormalizer.create(plan.getReturnTypes());
         return resultSetFuture
-            .thenApply(ResultSet::iterator)
-            .thenApply(resultIterator -> new CypherResultSet(resultIterator, returnNormalizer::normalize));
+            .thenApply(resultSet -> new CypherResultSet(resultSet, returnNormalizer::normalize)
+                .withReturnTypes(plan.getReturnTypes()));
     }
 
     private static RequestMessage.Builder buildRequest(String query, Map<String, Object> normalizedParameters, CypherStatement statement) {
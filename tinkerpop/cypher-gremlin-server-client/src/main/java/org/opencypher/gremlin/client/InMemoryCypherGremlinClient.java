@@ -16,30 +16,43 @@
 package org.opencypher.gremlin.client;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
-import static java.util.stream.Collectors.toList;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static org.opencypher.gremlin.client.CommonResultSets.exceptional;
 import static org.opencypher.gremlin.client.CommonResultSets.explain;
 import static org.opencypher.gremlin.translation.StatementOption.EXPLAIN;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import org.apache.tinkerpop.gremlin.driver.Result;
 import org.apache.tinkerpop.gremlin.process.traversal.P;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.DefaultGraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
 import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.TranslationPlan;
+import org.opencypher.gremlin.translation.ir.TranslationWriter;
 import org.opencypher.gremlin.translation.translator.Translator;
 import org.opencypher.gremlin.traversal.ParameterNormalizer;
+import org.opencypher.gremlin.traversal.ProcedureContext;
 import org.opencypher.gremlin.traversal.ReturnNormalizer;
+import org.opencypher.gremlin.traversal.TopKStrategy;
 
 final class InMemoryCypherGremlinClient implements CypherGremlinClient {
 
     private final GraphTraversalSource gts;
+    private final Executor executor;
 
     InMemoryCypherGremlinClient(GraphTraversalSource gts) {
+        this(gts, null);
+    }
+
+    InMemoryCypherGremlinClient(GraphTraversalSource gts, Executor executor) {
         this.gts = gts;
+        this.executor = executor;
     }
 
     @Override
@@ -49,26 +62,53 @@ final class InMemoryCypherGremlinClient implements CypherGremlinClient {
 
     @Override
     public CompletableFuture<CypherResultSet> submitAsync(CypherStatement statement) {
+        if (executor == null) {
+            return completedFuture(execute(statement));
+        }
+        return supplyAsync(() -> execute(statement), executor);
+    }
+
+    private CypherResultSet execute(CypherStatement statement) {
         Map<String, Object> normalizedParameters = ParameterNormalizer.normalize(statement.parameters());
         CypherAst ast;
         try {
             ast = CypherAst.parse(statement.query(), normalizedParameters);
         } catch (Exception e) {
-            return completedFuture(exceptional(e));
+            return exceptional(e);
         }
 
         if (ast.getOptions().contains(EXPLAIN)) {
-            return completedFuture(explain(ast));
+            return explain(ast);
         }
 
-        DefaultGraphTraversal g = new DefaultGraphTraversal(gts.clone());
+        DefaultGraphTraversal g = new DefaultGraphTraversal(gts.withStrategies(TopKStrategy.instance()));
         Translator<GraphTraversal, P> translator = Translator.builder().traversal(g).enableCypherExtensions().build();
-        GraphTraversal<?, ?> traversal = ast.buildTranslation(translator);
-        ReturnNormalizer returnNormalizer = ReturnNormalizer.create(ast.getReturnTypes());
-        List<Result> results = traversal.toStream()
-            .map(returnNormalizer::normalize)
-            .map(Result::new)
-            .collect(toList());
-        return completedFuture(new CypherResultSet(results.iterator()));
+        TranslationPlan plan = ast.plan(translator, ProcedureContext.empty());
+        GraphTraversal<?, ?> traversal = TranslationWriter.write(plan.ir(), translator, normalizedParameters);
+        ReturnNormalizer returnNormalizer = ReturnNormalizer.create(plan.getReturnTypes());
+        Iterator<?> rows = returnNormalizer.normalize(traversal);
+
+        if (!plan.isReadOnly()) {
+            // Apply all writes, even if the results are not consumed completely
+            List<Result> results = new ArrayList<>();
+            rows.forEachRemaining(row -> results.add(new Result(row)));
+            return new CypherResultSet(results.iterator()).withReturnTypes(plan.getReturnTypes());
+        }
+
+        Iterator<Result> results = new Iterator<Result>() {
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public Result next() {
+                return new Result(rows.next());
+            }
+        };
+
+        // Fail fast: evaluate up to the first result before returning
+        traversal.hasNext();
+        return new CypherResultSet(results, traversal).withReturnTypes(plan.getReturnTypes());
     }
 }
@@ -43,7 +43,6 @@ final class OpProcessorCypherGremlinClient implements CypherGremlinClient {
         CompletableFuture<ResultSet> resultSetFuture = client.submitAsync(requestMessage);
 
         return resultSetFuture
-            .thenApply(ResultSet::iterator)
             .thenApply(CypherResultSet::new);
     }
 
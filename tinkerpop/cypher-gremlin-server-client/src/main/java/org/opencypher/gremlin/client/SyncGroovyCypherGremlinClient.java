@@ -19,13 +19,18 @@ import static org.opencypher.gremlin.client.CommonResultSets.explain;
 import static org.opencypher.gremlin.translation.StatementOption.EXPLAIN;
 
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import org.apache.tinkerpop.gremlin.driver.Client;
 import org.apache.tinkerpop.gremlin.driver.Result;
+import org.apache.tinkerpop.gremlin.driver.ResultSet;
 import org.opencypher.gremlin.translation.CypherAst;
 import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
 import org.opencypher.gremlin.translation.translator.Translator;
@@ -36,10 +41,22 @@ final class SyncGroovyCypherGremlinClient implements CypherGremlinClient {
 
     private final Client client;
     private final Supplier<Translator<String, GroovyPredicate>> translatorSupplier;
+    private final int prefetch;
 
     SyncGroovyCypherGremlinClient(Client client, Supplier<Translator<String, GroovyPredicate>> translatorSupplier) {
+        this(client, translatorSupplier, 0);
+    }
+
+    /**
+     * @param prefetch number of results handed out of the driver's result queue at once,
+     *                 or {@code 0} to wait for all results
+     */
+    SyncGroovyCypherGremlinClient(Client client,
+                                  Supplier<Translator<String, GroovyPredicate>> translatorSupplier,
+                                  int prefetch) {
         this.client = client;
         this.translatorSupplier = translatorSupplier;
+        this.prefetch = prefetch;
     }
 
     @Override
@@ -53,31 +70,86 @@ final class SyncGroovyCypherGremlinClient implements CypherGremlinClient {
     }
 
     public CypherResultSet submit(CypherStatement statement) {
+        try {
+            return submitAsync(statement).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<CypherResultSet> submitAsync(CypherStatement statement) {
         Map<String, Object> normalizedParameters = ParameterNormalizer.normalize(statement.parameters());
         CypherAst ast = CypherAst.parse(statement.query(), normalizedParameters);
 
         if (ast.getOptions().contains(EXPLAIN)) {
-            return explain(ast);
+            return CompletableFuture.completedFuture(explain(ast));
         }
 
         Translator<String, GroovyPredicate> translator = translatorSupplier.get();
         String gremlin = ast.buildTranslation(translator);
 
         ReturnNormalizer returnNormalizer = ReturnNormalizer.create(ast.getReturnTypes());
+        CypherStatement updatedStatement = CypherStatement.create(statement.query(), normalizedParameters);
+        CompletableFuture<ResultSet> resultSetFuture = client.submitAsync(gremlin, updatedStatement.requestOptions());
 
-        try {
-            CypherStatement updatedStatement = CypherStatement.create(statement.query(), normalizedParameters);
-
-            List<Result> resultSet = client.submit(gremlin, updatedStatement.requestOptions()).all().get();
-            return new CypherResultSet(resultSet.iterator(), returnNormalizer::normalize);
-        } catch (InterruptedException | ExecutionException e) {
-            throw new RuntimeException(e);
+        if (prefetch <= 0) {
+            return resultSetFuture
+                .thenCompose(ResultSet::all)
+                .thenApply(results -> new CypherResultSet(results.iterator(), returnNormalizer::normalize)
+                    .withReturnTypes(ast.getReturnTypes()));
         }
+        return resultSetFuture
+            .thenCompose(resultSet -> resultSet.some(prefetch)
+                .thenApply(first -> new PrefetchingIterator(resultSet::some, prefetch, first)))
+            .thenApply(results -> new CypherResultSet(results, returnNormalizer::normalize)
+                .withReturnTypes(ast.getReturnTypes()));
     }
 
-    @Override
-    public CompletableFuture<CypherResultSet> submitAsync(CypherStatement statement) {
-        CypherResultSet result = submit(statement);
-        return CompletableFuture.completedFuture(result);
+    /**
+     * Iterates a result stream by taking windows of results from the driver's result queue.
+     * The driver still buffers all results received from the server until they are taken,
+     * so this does not bound client memory if results are consumed slower than they arrive.
+     */
+    static final class PrefetchingIterator implements Iterator<Result> {
+        private final IntFunction<CompletableFuture<List<Result>>> fetcher;
+        private final int prefetch;
+        private Iterator<Result> window;
+
+        /**
+         * @param fetcher  retrieves up to the given number of next results, e.g. {@link ResultSet#some(int)}
+         * @param prefetch window size
+         * @param first    first window of results
+         */
+        PrefetchingIterator(IntFunction<CompletableFuture<List<Result>>> fetcher, int prefetch, List<Result> first) {
+            this.fetcher = fetcher;
+            this.prefetch = prefetch;
+            this.window = first.iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!window.hasNext()) {
+                List<Result> next;
+                try {
+                    next = fetcher.apply(prefetch).join();
+                } catch (CompletionException e) {
+                    throw new RuntimeException(e.getCause());
+                }
+                if (next.isEmpty()) {
+                    return false;
+                }
+                window = next.iterator();
+            }
+            return true;
+        }
+
+        @Override
+        public Result next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return window.next();
+        }
     }
 }
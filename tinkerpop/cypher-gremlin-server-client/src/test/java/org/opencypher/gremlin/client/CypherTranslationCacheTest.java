@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.client;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import org.apache.tinkerpop.gremlin.process.traversal.Bytecode;
+import org.apache.tinkerpop.gremlin.process.traversal.P;
+import org.junit.Test;
+import org.opencypher.gremlin.client.CypherTranslationCache.CachedTranslation;
+import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
+import org.opencypher.gremlin.translation.translator.Translator;
+
+public class CypherTranslationCacheTest {
+    private static final String QUERY = "MATCH (n) WHERE n.name = $name RETURN n";
+
+    @Test
+    public void groovyTranslationWithBindings() {
+        CypherTranslationCache cache = new CypherTranslationCache(10);
+
+        String first = translateGroovy(cache, singletonMap("name", "marko"));
+        String second = translateGroovy(cache, singletonMap("name", "vadas"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void bytecodeWrittenPerCall() {
+        CypherTranslationCache cache = new CypherTranslationCache(10);
+
+        translateGroovy(cache, singletonMap("name", "marko"));
+        Bytecode first = translateBytecode(cache, singletonMap("name", "marko"));
+        Bytecode second = translateBytecode(cache, singletonMap("name", "vadas"));
+
+        assertThat(second).isNotEqualTo(first);
+        assertThat(cache.stats().size()).isEqualTo(2);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void inlinedParameterChange() {
+        CypherTranslationCache cache = new CypherTranslationCache(10);
+        String query = "MATCH (n) RETURN n LIMIT $limit";
+        Translator<String, GroovyPredicate> translator = Translator.builder().gremlinGroovy().build();
+
+        cache.get(query, singletonMap("limit", 1L), translator);
+        cache.get(query, singletonMap("limit", 2L), translator);
+
+        assertThat(cache.stats().hitCount()).isEqualTo(0);
+        assertThat(cache.stats().missCount()).isEqualTo(2);
+    }
+
+    private static String translateGroovy(CypherTranslationCache cache, Map<String, Object> parameters) {
+        Translator<String, GroovyPredicate> translator = Translator.builder().gremlinGroovy().build();
+        CachedTranslation translation = cache.get(QUERY, parameters, translator);
+        return translation.write(translator, parameters);
+    }
+
+    private static Bytecode translateBytecode(CypherTranslationCache cache, Map<String, Object> parameters) {
+        Translator<Bytecode, P> translator = Translator.builder().bytecode().build();
+        CachedTranslation translation = cache.get(QUERY, parameters, translator);
+        return translation.write(translator, parameters);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Before;
+import org.junit.Test;
+
+public class InMemoryCypherGremlinClientTest {
+    private TinkerGraph graph;
+    private CypherGremlinClient client;
+
+    @Before
+    public void setUp() {
+        graph = TinkerGraph.open();
+        client = CypherGremlinClient.inMemory(graph.traversal());
+    }
+
+    @Test
+    public void partiallyConsumedWrite() {
+        CypherResultSet results = client.submit("UNWIND range(1, 10) AS i CREATE (n {i: i}) RETURN i");
+        Iterator<Map<String, Object>> iterator = results.iterator();
+
+        assertThat(iterator.next()).containsEntry("i", 1L);
+        assertThat(graph.traversal().V().count().next()).isEqualTo(10L);
+    }
+
+    @Test
+    public void closedWrite() {
+        CypherResultSet results = client.submit("UNWIND range(1, 10) AS i CREATE (n {i: i}) RETURN i");
+        Iterator<Map<String, Object>> iterator = results.iterator();
+        iterator.next();
+        results.close();
+
+        assertThat(iterator.hasNext()).isFalse();
+        assertThat(graph.traversal().V().count().next()).isEqualTo(10L);
+    }
+
+    @Test
+    public void unconsumedWrite() {
+        client.submit("UNWIND range(1, 10) AS i CREATE (n {i: i}) RETURN i").close();
+
+        assertThat(graph.traversal().V().count().next()).isEqualTo(10L);
+    }
+
+    @Test
+    public void closedRead() {
+        client.submit("UNWIND range(1, 10) AS i CREATE (n {i: i})").all();
+
+        CypherResultSet results = client.submit("MATCH (n) RETURN n.i AS i ORDER BY i");
+        Iterator<Map<String, Object>> iterator = results.iterator();
+
+        assertThat(iterator.next()).containsEntry("i", 1L);
+        results.close();
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.client;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.apache.tinkerpop.gremlin.driver.Result;
+import org.junit.Test;
+import org.opencypher.gremlin.client.SyncGroovyCypherGremlinClient.PrefetchingIterator;
+
+public class SyncGroovyCypherGremlinClientTest {
+
+    @Test
+    public void prefetchWindows() {
+        DriverBuffer buffer = new DriverBuffer(10);
+        PrefetchingIterator iterator = new PrefetchingIterator(buffer::some, 3, buffer.some(3).join());
+
+        List<Object> values = new ArrayList<>();
+        iterator.forEachRemaining(result -> values.add(result.getObject()));
+
+        assertThat(values).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(buffer.requests).containsExactly(3, 3, 3, 3, 3);
+    }
+
+    @Test
+    public void prefetchDoesNotBoundDriverBuffer() {
+        DriverBuffer buffer = new DriverBuffer(10);
+        PrefetchingIterator iterator = new PrefetchingIterator(buffer::some, 3, buffer.some(3).join());
+
+        assertThat(iterator.next().getObject()).isEqualTo(1L);
+
+        // only the first window is taken, the rest stays buffered in the driver
+        assertThat(buffer.results).hasSize(7);
+    }
+
+    /**
+     * Results received by the driver, taken like {@code ResultSet.some(int)} does.
+     */
+    private static final class DriverBuffer {
+        private final LinkedBlockingQueue<Result> results = new LinkedBlockingQueue<>();
+        private final List<Integer> requests = new ArrayList<>();
+
+        private DriverBuffer(int count) {
+            for (long i = 1; i <= count; i++) {
+                results.add(new Result(i));
+            }
+        }
+
+        private CompletableFuture<List<Result>> some(int max) {
+            requests.add(max);
+            List<Result> window = new ArrayList<>();
+            results.drainTo(window, max);
+            return completedFuture(window);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.tinkerpop.gremlin.jsr223.GremlinPlugin;
 import org.apache.tinkerpop.gremlin.jsr223.ImportCustomizer;
 import org.opencypher.gremlin.traversal.CustomFunctions;
 import org.opencypher.gremlin.traversal.CustomPredicate;
+import org.opencypher.gremlin.traversal.TopKStrategy;
 
 public class CypherPlugin implements GremlinPlugin {
 
@@ -35,6 +36,7 @@ public class CypherPlugin implements GremlinPlugin {
         .addMethodImports(getDeclaredPublicMethods(CustomPredicate.class))
         .addClassImports(CustomFunctions.class)
         .addMethodImports(getDeclaredPublicMethods(CustomFunctions.class))
+        .addClassImports(TopKStrategy.class)
         .create();
 
     private static List<Method> getDeclaredPublicMethods(Class<?> klass) {
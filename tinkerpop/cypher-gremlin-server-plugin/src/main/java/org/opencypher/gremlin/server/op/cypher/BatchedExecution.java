@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.op.cypher;
+
+import static java.lang.String.format;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+
+/**
+ * Executes a bulk creation query in batches of its list parameter,
+ * committing the transaction after each batch.
+ * <p>
+ * The query is not atomic: when a batch fails, its transaction is rolled back,
+ * but previous batches stay committed, and the error reports how many rows were committed.
+ * This is opted into by configuring {@code bulkBatchSize}.
+ * <p>
+ * Bulk creation queries have no results, so this iterator is always empty.
+ * Batches are executed when it is first checked for results,
+ * on the thread that iterates it, so they use the transaction bound to that thread.
+ */
+final class BatchedExecution implements Iterator<Object> {
+    private final Graph graph;
+    private final List<?> rows;
+    private final int batchSize;
+    private final Function<List<?>, Traversal<?, ?>> traversal;
+    private int offset = 0;
+    private boolean failed = false;
+
+    BatchedExecution(Graph graph, List<?> rows, int batchSize, Function<List<?>, Traversal<?, ?>> traversal) {
+        this.graph = graph;
+        this.rows = rows;
+        this.batchSize = batchSize;
+        this.traversal = traversal;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!failed && offset < rows.size()) {
+            int end = Math.min(offset + batchSize, rows.size());
+            try {
+                if (Thread.interrupted()) {
+                    throw new TraversalInterruptedException();
+                }
+                traversal.apply(rows.subList(offset, end)).iterate();
+                graph.tx().commit();
+            } catch (TraversalInterruptedException e) {
+                rollback();
+                throw e;
+            } catch (RuntimeException e) {
+                rollback();
+                throw new IllegalStateException(format(
+                    "Bulk execution failed after committing %d of %d rows: %s", offset, rows.size(), e.getMessage()), e);
+            }
+            offset = end;
+        }
+        return false;
+    }
+
+    private void rollback() {
+        failed = true;
+        if (graph.tx().isOpen()) {
+            graph.tx().rollback();
+        }
+    }
+
+    @Override
+    public Object next() {
+        hasNext();
+        throw new NoSuchElementException();
+    }
+}
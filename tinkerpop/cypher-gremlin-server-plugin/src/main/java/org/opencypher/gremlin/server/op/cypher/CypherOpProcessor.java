@@ -15,6 +15,7 @@
  */
 package org.opencypher.gremlin.server.op.cypher;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Optional.empty;
@@ -22,16 +23,24 @@ import static org.apache.tinkerpop.gremlin.driver.message.ResponseStatusCode.SER
 import static org.opencypher.gremlin.translation.StatementOption.EXPLAIN;
 import static org.slf4j.LoggerFactory.getLogger;
 
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.tinkerpop.gremlin.driver.Tokens;
 import org.apache.tinkerpop.gremlin.driver.message.RequestMessage;
 import org.apache.tinkerpop.gremlin.driver.message.ResponseMessage;
@@ -45,11 +54,17 @@ import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedE
 import org.apache.tinkerpop.gremlin.server.Context;
 import org.apache.tinkerpop.gremlin.server.GraphManager;
 import org.apache.tinkerpop.gremlin.server.OpProcessor;
+import org.apache.tinkerpop.gremlin.server.Settings;
 import org.apache.tinkerpop.gremlin.server.op.AbstractEvalOpProcessor;
 import org.apache.tinkerpop.gremlin.server.op.OpProcessorException;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.apache.tinkerpop.gremlin.util.function.ThrowingConsumer;
 import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.TranslationCache;
+import org.opencypher.gremlin.translation.TranslationMetrics;
+import org.opencypher.gremlin.translation.TranslationPhase;
+import org.opencypher.gremlin.translation.TranslationPlan;
+import org.opencypher.gremlin.translation.groovy.GroovyGremlinBindings;
 import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
 import org.opencypher.gremlin.translation.ir.TranslationWriter;
 import org.opencypher.gremlin.translation.ir.model.GremlinStep;
@@ -57,6 +72,7 @@ import org.opencypher.gremlin.translation.translator.Translator;
 import org.opencypher.gremlin.traversal.ParameterNormalizer;
 import org.opencypher.gremlin.traversal.ProcedureContext;
 import org.opencypher.gremlin.traversal.ReturnNormalizer;
+import org.opencypher.gremlin.traversal.TopKStrategy;
 import org.slf4j.Logger;
 import scala.collection.Seq;
 
@@ -70,16 +86,75 @@ import scala.collection.Seq;
  *   "args": { "gremlin": "&lt;CYPHER QUERY&gt;" }
  * }
  * </pre>
+ * <p>
+ * Translations are cached by query text, so repeated queries with different parameters
+ * skip parsing and rewriting. Cache size is configured with {@code translationCacheSize}.
+ * <p>
+ * Parameters are kept as bindings in cached translations and their values are injected
+ * when the traversal is written for a request. Parameters that need literal values
+ * (e.g. in {@code SKIP} or {@code LIMIT}) invalidate the cached translation when their values change.
+ * <p>
+ * Results are written in batches of {@code resultIterationBatchSize} (or the request {@code batchSize})
+ * by the standard Gremlin Server {@code handleIterator}, which waits while the client connection is not writable.
+ * Iteration is cancelled on timeout or when the client disconnects.
+ * <p>
+ * With {@code parallelUnion} enabled, branches of a read-only top-level {@code UNION}
+ * are executed as separate traversals on the Gremlin executor and their results are merged
+ * (see {@link ParallelUnion}). This is only done for graphs without transaction support.
+ * <p>
+ * With {@code bulkBatchSize} set, bulk creation queries ({@code UNWIND $rows AS row CREATE ...})
+ * on transactional graphs are executed in batches of rows, with a commit after each batch,
+ * so a failed batch does not undo earlier ones (see {@link BatchedExecution}).
  */
 public class CypherOpProcessor extends AbstractEvalOpProcessor {
-    private static final String DEFAULT_TRANSLATOR_DEFINITION = "gremlin+cfog_server_extensions+inline_parameters";
+    private static final String DEFAULT_TRANSLATOR_DEFINITION = "gremlin+cfog_server_extensions";
+    private static final int DEFAULT_TRANSLATION_CACHE_SIZE = 1000;
+
+    private static final String CONFIG_TRANSLATOR_DEFINITION = "translatorDefinition";
+    private static final String CONFIG_TRANSLATOR_FEATURES = "translatorFeatures";
+    private static final String CONFIG_TRANSLATION_CACHE_SIZE = "translationCacheSize";
+    private static final String CONFIG_PARALLEL_UNION = "parallelUnion";
+    private static final String CONFIG_BULK_BATCH_SIZE = "bulkBatchSize";
 
     private static final Logger logger = getLogger(CypherOpProcessor.class);
 
+    private TranslationCache<TranslationKey, CachedTranslation> translationCache =
+        new TranslationCache<>(DEFAULT_TRANSLATION_CACHE_SIZE);
+    private final TranslationMetrics translationMetrics = new TranslationMetrics();
+    private boolean parallelUnion = false;
+    private int bulkBatchSize = 0;
+
     public CypherOpProcessor() {
         super(true);
     }
 
+    @Override
+    public void init(Settings settings) {
+        Map<String, Object> config = getConfig(settings);
+        int cacheSize = ((Number) config.getOrDefault(CONFIG_TRANSLATION_CACHE_SIZE, DEFAULT_TRANSLATION_CACHE_SIZE)).intValue();
+        translationCache = new TranslationCache<>(cacheSize);
+        parallelUnion = Boolean.parseBoolean(String.valueOf(config.getOrDefault(CONFIG_PARALLEL_UNION, false)));
+        bulkBatchSize = ((Number) config.getOrDefault(CONFIG_BULK_BATCH_SIZE, 0)).intValue();
+    }
+
+    /**
+     * Returns hit, miss and eviction counters of the translation cache.
+     *
+     * @return translation cache statistics
+     */
+    public TranslationCache.Stats getTranslationCacheStats() {
+        return translationCache.stats();
+    }
+
+    /**
+     * Returns timings of translation phases and rewriters, and intermediate representation sizes.
+     *
+     * @return translation metrics
+     */
+    public TranslationMetrics getTranslationMetrics() {
+        return translationMetrics;
+    }
+
     @Override
     public String getName() {
         return "cypher";
@@ -101,35 +176,110 @@ public class CypherOpProcessor extends AbstractEvalOpProcessor {
         logger.info("Cypher: {}", cypher.replaceAll("\n", " "));
 
         GraphTraversalSource gts = traversal(context);
-        DefaultGraphTraversal g = new DefaultGraphTraversal(gts.clone());
-        Map<String, Object> parameters = ParameterNormalizer.normalize(getParameters(args));
+        Map<String, Object> parameters = ParameterNormalizer.normalizeInPlace(getParameters(args));
         ProcedureContext procedureContext = ProcedureContext.global();
-        CypherAst ast = CypherAst.parse(cypher, parameters, procedureContext.getSignatures());
 
         String translatorDefinition = getTranslatorDefinition(context);
 
+        TranslationKey key = new TranslationKey(cypher, translatorDefinition, procedureContext.getVersion());
+        CachedTranslation translation = translationCache.get(
+            key,
+            t -> t.plan.isReusableWith(parameters),
+            k -> translate(cypher, parameters, translatorDefinition, procedureContext)
+        );
+        TranslationPlan plan = translation.plan;
+        Seq<GremlinStep> ir = plan.ir();
+
+        String gremlin = translation.gremlin != null
+            ? translation.gremlin
+            : TranslationWriter.write(ir, inliningStringTranslator(translatorDefinition), parameters);
+        logger.info("Gremlin: {}", gremlin);
+
+        if (plan.getOptions().contains(EXPLAIN)) {
+            explainQuery(context, plan, gremlin);
+            return;
+        }
+
+        boolean supportsTransactions = gts.getGraph().features().graph().supportsTransactions();
+        List<Seq<GremlinStep>> branches = parallelUnion ? plan.getUnionBranches() : emptyList();
+        List<?> bulkRows = bulkRows(plan, parameters);
+        Iterator<?> results;
+        if (branches.size() > 1 && !supportsTransactions) {
+            List<GraphTraversal<?, ?>> branchTraversals = new ArrayList<>();
+            for (Seq<GremlinStep> branch : branches) {
+                Translator<GraphTraversal, P> branchTranslator = traversalTranslator(gts, translatorDefinition);
+                branchTraversals.add(TranslationWriter.write(branch, branchTranslator, parameters));
+            }
+            ExecutorService executor = context.getGremlinExecutor().getExecutorService();
+            results = new ParallelUnion(branchTraversals, executor, plan.isDistinctUnion(), getBatchSize(context));
+        } else if (bulkRows != null && supportsTransactions) {
+            String bulkParameter = plan.getBulkParameter().get();
+            results = new BatchedExecution(gts.getGraph(), bulkRows, bulkBatchSize, batch -> {
+                Map<String, Object> batchParameters = new HashMap<>(parameters);
+                batchParameters.put(bulkParameter, batch);
+                return TranslationWriter.write(ir, traversalTranslator(gts, translatorDefinition), batchParameters);
+            });
+        } else {
+            long start = System.nanoTime();
+            results = TranslationWriter.write(ir, traversalTranslator(gts, translatorDefinition), parameters);
+            translationMetrics.phaseCompleted(TranslationPhase.WRITING, System.nanoTime() - start);
+        }
+        ReturnNormalizer returnNormalizer = ReturnNormalizer.create(plan.getReturnTypes());
+        Iterator normalizedTraversal = returnNormalizer.normalize(results);
+        AutoCloseable resource = results instanceof AutoCloseable ? (AutoCloseable) results : () -> {
+        };
+        inTransaction(gts, () -> handleIterator(context, normalizedTraversal, resource));
+    }
+
+    private CachedTranslation translate(String cypher,
+                                        Map<String, Object> parameters,
+                                        String translatorDefinition,
+                                        ProcedureContext procedureContext) {
         Translator<String, GroovyPredicate> stringTranslator = Translator.builder()
             .gremlinGroovy()
             .build(translatorDefinition);
 
-        Translator<GraphTraversal, P> traversalTranslator = Translator.builder()
-            .traversal(g)
-            .build(translatorDefinition);
+        TranslationPlan plan = CypherAst.parse(cypher, parameters, procedureContext.getSignatures(), translationMetrics)
+            .plan(stringTranslator, procedureContext);
 
-        Seq<GremlinStep> ir = ast.translate(stringTranslator.flavor(), stringTranslator.features(), procedureContext);
+        String gremlin = null;
+        if (stringTranslator.bindings() instanceof GroovyGremlinBindings) {
+            try {
+                long start = System.nanoTime();
+                gremlin = TranslationWriter.write(plan.ir(), stringTranslator, parameters);
+                translationMetrics.phaseCompleted(TranslationPhase.WRITING, System.nanoTime() - start);
+            } catch (IllegalArgumentException e) {
+                // parameter names that are not valid Groovy identifiers are inlined on every call
+            }
+        }
 
-        String gremlin = TranslationWriter.write(ir, stringTranslator, parameters);
-        logger.info("Gremlin: {}", gremlin);
+        return new CachedTranslation(plan, gremlin);
+    }
 
-        if (ast.getOptions().contains(EXPLAIN)) {
-            explainQuery(context, ast, gremlin);
-            return;
+    private static Translator<GraphTraversal, P> traversalTranslator(GraphTraversalSource gts,
+                                                                     String translatorDefinition) {
+        DefaultGraphTraversal g = new DefaultGraphTraversal(gts.withStrategies(TopKStrategy.instance()));
+        return Translator.builder()
+            .traversal(g)
+            .build(translatorDefinition);
+    }
+
+    private List<?> bulkRows(TranslationPlan plan, Map<String, Object> parameters) {
+        if (bulkBatchSize <= 0 || !plan.getBulkParameter().isPresent()) {
+            return null;
+        }
+        Object rows = parameters.get(plan.getBulkParameter().get());
+        if (rows instanceof List && ((List<?>) rows).size() > bulkBatchSize) {
+            return (List<?>) rows;
         }
+        return null;
+    }
 
-        GraphTraversal<?, ?> traversal = TranslationWriter.write(ir, traversalTranslator, parameters);
-        ReturnNormalizer returnNormalizer = ReturnNormalizer.create(ast.getReturnTypes());
-        Iterator normalizedTraversal = returnNormalizer.normalize(traversal);
-        inTransaction(gts, () -> handleIterator(context, normalizedTraversal));
+    private Translator<String, GroovyPredicate> inliningStringTranslator(String translatorDefinition) {
+        return Translator.builder()
+            .gremlinGroovy()
+            .inlineParameters()
+            .build(translatorDefinition);
     }
 
     private void inTransaction(GraphTraversalSource gts, Runnable runnable) {
@@ -191,11 +341,35 @@ public class CypherOpProcessor extends AbstractEvalOpProcessor {
     }
 
     protected void handleIterator(Context context, Iterator traversal) {
+        handleIterator(context, traversal, () -> {
+        });
+    }
+
+    /**
+     * Iterates results on the Gremlin executor.
+     * The resource is closed when iteration ends or is cancelled (on timeout or client disconnect),
+     * even if iteration never started. The channel close listener is removed at the same time.
+     */
+    private void handleIterator(Context context, Iterator traversal, AutoCloseable resource) {
         RequestMessage msg = context.getRequestMessage();
         final long timeout = msg.getArgs().containsKey(Tokens.ARGS_SCRIPT_EVAL_TIMEOUT)
             ? ((Number) msg.getArgs().get(Tokens.ARGS_SCRIPT_EVAL_TIMEOUT)).longValue()
             : context.getSettings().scriptEvaluationTimeout;
 
+        ChannelHandlerContext ctx = context.getChannelHandlerContext();
+        ChannelFuture closeFuture = ctx.channel().closeFuture();
+        AtomicReference<ChannelFutureListener> cancelOnClose = new AtomicReference<>();
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                ChannelFutureListener listener = cancelOnClose.get();
+                if (listener != null) {
+                    closeFuture.removeListener(listener);
+                }
+                closeQuietly(resource);
+            }
+        };
+
         FutureTask<Void> evalFuture = new FutureTask<>(() -> {
             try {
                 super.handleIterator(context, traversal);
@@ -203,22 +377,51 @@ public class CypherOpProcessor extends AbstractEvalOpProcessor {
                 String errorMessage = getErrorMessage(msg, ex);
 
                 logger.error("Error during traversal iteration", ex);
-                ChannelHandlerContext ctx = context.getChannelHandlerContext();
                 ctx.writeAndFlush(ResponseMessage.build(msg)
                     .code(SERVER_ERROR)
                     .statusMessage(errorMessage)
                     .statusAttributeException(ex)
                     .create());
+            } finally {
+                release.run();
             }
             return null;
         }
         );
 
         final Future<?> executionFuture = context.getGremlinExecutor().getExecutorService().submit(evalFuture);
+        ChannelFutureListener listener = f -> cancel(executionFuture, release);
+        cancelOnClose.set(listener);
+        closeFuture.addListener(listener);
+        if (released.get()) {
+            // released before the listener was added
+            closeFuture.removeListener(listener);
+        }
         if (timeout > 0) {
-            context.getScheduledExecutorService().schedule(() -> executionFuture.cancel(true), timeout, TimeUnit.MILLISECONDS);
+            context.getScheduledExecutorService().schedule(() -> cancel(executionFuture, release), timeout, TimeUnit.MILLISECONDS);
+        }
+
+    }
+
+    private static void cancel(Future<?> execution, Runnable release) {
+        if (execution != null && execution.cancel(true)) {
+            release.run();
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable resource) {
+        try {
+            resource.close();
+        } catch (Exception e) {
+            logger.warn("Failed to release query resources", e);
         }
+    }
 
+    private int getBatchSize(Context context) {
+        RequestMessage msg = context.getRequestMessage();
+        return msg.getArgs().containsKey(Tokens.ARGS_BATCH_SIZE)
+            ? ((Number) msg.getArgs().get(Tokens.ARGS_BATCH_SIZE)).intValue()
+            : context.getSettings().resultIterationBatchSize;
     }
 
     private String getErrorMessage(RequestMessage msg, Exception ex) {
@@ -229,10 +432,10 @@ public class CypherOpProcessor extends AbstractEvalOpProcessor {
         }
     }
 
-    private void explainQuery(Context context, CypherAst ast, String gremlin) {
+    private void explainQuery(Context context, TranslationPlan plan, String gremlin) {
         Map<String, Object> explanation = new LinkedHashMap<>();
         explanation.put("translation", gremlin);
-        explanation.put("options", ast.getOptions().toString());
+        explanation.put("options", plan.getOptions().toString());
 
         ResponseMessage explainMsg = ResponseMessage.build(context.getRequestMessage())
             .code(ResponseStatusCode.SUCCESS)
@@ -259,19 +462,69 @@ public class CypherOpProcessor extends AbstractEvalOpProcessor {
     }
 
     private String getTranslatorDefinition(Context context) {
-        Map<String, Object> config = context.getSettings().optionalProcessor(CypherOpProcessor.class)
+        Map<String, Object> config = getConfig(context.getSettings());
+
+        return config.getOrDefault(CONFIG_TRANSLATOR_DEFINITION, DEFAULT_TRANSLATOR_DEFINITION) + "+" +
+            config.getOrDefault(CONFIG_TRANSLATOR_FEATURES, "");
+    }
+
+    private Map<String, Object> getConfig(Settings settings) {
+        Map<String, Object> config = settings.optionalProcessor(CypherOpProcessor.class)
             .map(p -> p.config)
             .orElse(emptyMap());
 
         HashSet<String> properties = new HashSet<>(config.keySet());
-        properties.remove("translatorDefinition");
-        properties.remove("translatorFeatures");
+        properties.remove(CONFIG_TRANSLATOR_DEFINITION);
+        properties.remove(CONFIG_TRANSLATOR_FEATURES);
+        properties.remove(CONFIG_TRANSLATION_CACHE_SIZE);
+        properties.remove(CONFIG_PARALLEL_UNION);
+        properties.remove(CONFIG_BULK_BATCH_SIZE);
         if (!properties.isEmpty()) {
             throw new IllegalStateException("Unknown configuration parameters found for CypherOpProcessor: " + properties);
         }
 
-        return config.getOrDefault("translatorDefinition", DEFAULT_TRANSLATOR_DEFINITION) + "+" +
-            config.getOrDefault("translatorFeatures", "");
+        return config;
+    }
+
+    /**
+     * Translation plan and its Gremlin-Groovy form,
+     * which is only cached when parameters are written as bindings.
+     */
+    private static final class CachedTranslation {
+        private final TranslationPlan plan;
+        private final String gremlin;
+
+        private CachedTranslation(TranslationPlan plan, String gremlin) {
+            this.plan = plan;
+            this.gremlin = gremlin;
+        }
+    }
+
+    private static final class TranslationKey {
+        private final String cypher;
+        private final String translatorDefinition;
+        private final long proceduresVersion;
+
+        private TranslationKey(String cypher, String translatorDefinition, long proceduresVersion) {
+            this.cypher = cypher;
+            this.translatorDefinition = translatorDefinition;
+            this.proceduresVersion = proceduresVersion;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof TranslationKey)) return false;
+            TranslationKey that = (TranslationKey) o;
+            return proceduresVersion == that.proceduresVersion &&
+                Objects.equals(cypher, that.cypher) &&
+                Objects.equals(translatorDefinition, that.translatorDefinition);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(cypher, translatorDefinition, proceduresVersion);
+        }
     }
 
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.op.cypher;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
+
+/**
+ * Merges results of independent {@code UNION} branches that are iterated concurrently.
+ * <p>
+ * Each branch is iterated by a task on the given executor and rows are returned in arrival order.
+ * Rows are handed over through a queue of limited capacity, so branches that are ahead of
+ * the consumer wait instead of buffering their results.
+ * Branches that were not picked up by the executor yet are iterated by the consuming thread,
+ * so a saturated executor cannot stall the merge.
+ * <p>
+ * With {@code distinct}, rows already returned by any branch are skipped.
+ * Like {@code dedup()} in a sequential union, this keeps every returned row until iteration ends.
+ * Returned rows must not be modified, e.g. they should be normalized into copies,
+ * or equal rows from other branches would no longer be recognized.
+ * <p>
+ * Branch tasks are cancelled when a branch fails, when the consuming thread is interrupted
+ * (e.g. on timeout or client disconnect), or when this iterator is closed.
+ */
+final class ParallelUnion implements Iterator<Object>, AutoCloseable {
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> queue;
+    private final List<Branch> branches = new ArrayList<>();
+    private final List<Future<?>> futures = new ArrayList<>();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private Set<Object> seen;
+    private Branch inline;
+    private int remaining;
+    private Object next;
+
+    ParallelUnion(List<? extends Iterator<?>> branchIterators,
+                  ExecutorService executor,
+                  boolean distinct,
+                  int capacity) {
+        this.queue = new ArrayBlockingQueue<>(Math.max(capacity, 1));
+        this.seen = distinct ? new HashSet<>() : null;
+        this.remaining = branchIterators.size();
+        for (Iterator<?> iterator : branchIterators) {
+            branches.add(new Branch(iterator));
+        }
+        for (Branch branch : branches) {
+            futures.add(executor.submit(branch));
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && remaining > 0 && !closed.get()) {
+            Object item = take();
+            if (item == END) {
+                remaining--;
+            } else if (item instanceof Failure) {
+                close();
+                throw ((Failure) item).rethrow();
+            } else if (seen == null || seen.add(item)) {
+                next = item;
+            }
+        }
+        if (next == null) {
+            close();
+            seen = null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object item = next;
+        next = null;
+        return item;
+    }
+
+    /**
+     * Cancels branches that are still running and discards rows they produced.
+     * Can be called from any thread.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        for (Branch branch : branches) {
+            branch.claimed.set(true);
+        }
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+        queue.clear();
+    }
+
+    private Object take() {
+        Object item = queue.poll();
+        while (item == null) {
+            if (inline == null) {
+                inline = claimBranch();
+            }
+            if (inline == null) {
+                try {
+                    return queue.take();
+                } catch (InterruptedException e) {
+                    close();
+                    Thread.currentThread().interrupt();
+                    throw new TraversalInterruptedException();
+                }
+            }
+            item = inline.pull();
+            if (item == END || item instanceof Failure) {
+                inline = null;
+            }
+        }
+        return item;
+    }
+
+    private Branch claimBranch() {
+        for (Branch branch : branches) {
+            if (branch.claimed.compareAndSet(false, true)) {
+                return branch;
+            }
+        }
+        return null;
+    }
+
+    private final class Branch implements Runnable {
+        private final Iterator<?> iterator;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private Branch(Iterator<?> iterator) {
+            this.iterator = iterator;
+        }
+
+        @Override
+        public void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                Object item;
+                do {
+                    item = pull();
+                    queue.put(item);
+                } while (item != END && !(item instanceof Failure));
+            } catch (InterruptedException e) {
+                // cancelled
+            }
+        }
+
+        /**
+         * Returns the next row of this branch, {@link #END} or a {@link Failure}.
+         */
+        private Object pull() {
+            try {
+                if (Thread.interrupted()) {
+                    throw new TraversalInterruptedException();
+                }
+                return iterator.hasNext() ? iterator.next() : END;
+            } catch (Throwable t) {
+                return new Failure(t);
+            }
+        }
+    }
+
+    private static final class Failure {
+        private final Throwable cause;
+
+        private Failure(Throwable cause) {
+            this.cause = cause;
+        }
+
+        private RuntimeException rethrow() {
+            if (cause instanceof RuntimeException) {
+                return (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            return new RuntimeException(cause);
+        }
+    }
+}
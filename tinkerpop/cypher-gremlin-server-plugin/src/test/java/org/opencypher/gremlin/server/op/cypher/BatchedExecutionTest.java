@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.op.cypher;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.apache.tinkerpop.gremlin.process.traversal.Traversal;
+import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversalSource;
+import org.apache.tinkerpop.gremlin.process.traversal.util.TraversalInterruptedException;
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+import org.apache.tinkerpop.gremlin.tinkergraph.structure.TinkerGraph;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BatchedExecutionTest {
+    private static final List<Integer> ROWS = asList(0, 1, 2, 3, 4);
+
+    private final GraphTraversalSource g = TinkerGraph.open().traversal();
+    private final List<List<?>> batches = new ArrayList<>();
+    private Graph graph;
+    private Transaction tx;
+
+    @Before
+    public void setUp() {
+        graph = mock(Graph.class);
+        tx = mock(Transaction.class);
+        when(graph.tx()).thenReturn(tx);
+        when(tx.isOpen()).thenReturn(true);
+    }
+
+    @Test
+    public void commitEachBatch() {
+        BatchedExecution execution = new BatchedExecution(graph, ROWS, 2, batch -> {
+            batches.add(new ArrayList<>(batch));
+            return g.inject(batch);
+        });
+
+        assertThat(execution.hasNext()).isFalse();
+        assertThat(batches).containsExactly(asList(0, 1), asList(2, 3), asList(4));
+        verify(tx, times(3)).commit();
+        verify(tx, never()).rollback();
+    }
+
+    @Test
+    public void rollbackFailedBatch() {
+        BatchedExecution execution = new BatchedExecution(graph, ROWS, 2, failOn(2));
+
+        assertThatThrownBy(execution::hasNext)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("committing 2 of 5 rows")
+            .hasMessageContaining("failed batch");
+        verify(tx, times(1)).commit();
+        verify(tx, times(1)).rollback();
+
+        assertThat(execution.hasNext()).isFalse();
+        assertThat(batches).containsExactly(asList(0, 1), asList(2, 3));
+    }
+
+    @Test
+    public void noBatchesAfterInterrupt() {
+        BatchedExecution execution = new BatchedExecution(graph, ROWS, 2, failOn(-1));
+
+        Thread.currentThread().interrupt();
+        assertThatThrownBy(execution::hasNext)
+            .isInstanceOf(TraversalInterruptedException.class);
+
+        assertThat(batches).isEmpty();
+        verify(tx, never()).commit();
+    }
+
+    private Function<List<?>, Traversal<?, ?>> failOn(Object row) {
+        return batch -> {
+            batches.add(new ArrayList<>(batch));
+            if (batch.contains(row)) {
+                throw new IllegalArgumentException("failed batch");
+            }
+            return g.inject(batch);
+        };
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.op.cypher;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import org.apache.tinkerpop.gremlin.server.Settings;
+import org.junit.Test;
+
+public class CypherOpProcessorTest {
+
+    @Test
+    public void initParallelUnion() {
+        new CypherOpProcessor().init(settings(singletonMap("parallelUnion", true)));
+    }
+
+    @Test
+    public void initBulkBatchSize() {
+        new CypherOpProcessor().init(settings(singletonMap("bulkBatchSize", 500)));
+    }
+
+    @Test
+    public void initUnknownParameter() {
+        assertThatThrownBy(() -> new CypherOpProcessor().init(settings(singletonMap("unknown", true))))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("unknown");
+    }
+
+    private static Settings settings(Map<String, Object> config) {
+        Settings.ProcessorSettings processorSettings = new Settings.ProcessorSettings();
+        processorSettings.className = CypherOpProcessor.class.getCanonicalName();
+        processorSettings.config = config;
+
+        Settings settings = new Settings();
+        settings.processors.add(processorSettings);
+        return settings;
+    }
+}
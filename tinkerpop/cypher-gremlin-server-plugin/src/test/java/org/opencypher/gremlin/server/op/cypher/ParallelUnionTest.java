@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.server.op.cypher;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.tinkerpop.gremlin.structure.T;
+import org.junit.After;
+import org.junit.Test;
+import org.opencypher.gremlin.translation.CypherAst;
+import org.opencypher.gremlin.translation.Tokens;
+import org.opencypher.gremlin.traversal.ReturnNormalizer;
+
+public class ParallelUnionTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void mergeAll() {
+        ParallelUnion union = new ParallelUnion(asList(
+            asList(1, 2, 3).iterator(),
+            asList(3, 4).iterator()
+        ), executor, false, 1);
+
+        assertThat(union).containsExactlyInAnyOrder(1, 2, 3, 3, 4);
+    }
+
+    @Test
+    public void mergeDistinct() {
+        ParallelUnion union = new ParallelUnion(asList(
+            asList(1, 2, 3).iterator(),
+            asList(3, 4).iterator()
+        ), executor, true, 1);
+
+        assertThat(union).containsExactlyInAnyOrder(1, 2, 3, 4);
+    }
+
+    @Test
+    public void mergeDistinctNormalizedRows() {
+        ReturnNormalizer normalizer = ReturnNormalizer.create(
+            CypherAst.parse("MATCH (n) RETURN n, n.missing AS m").getReturnTypes()
+        );
+        ParallelUnion union = new ParallelUnion(asList(
+            asList(row("a"), row("b")).iterator(),
+            asList(row("a"), row("b")).iterator()
+        ), executor, true, 1);
+
+        List<Object> rows = new ArrayList<>();
+        normalizer.normalize(union).forEachRemaining(rows::add);
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows).extracting("m").containsOnly((Object) null);
+    }
+
+    @Test
+    public void boundedBuffer() throws Exception {
+        CountingIterator branch = new CountingIterator(Integer.MAX_VALUE);
+        ParallelUnion union = new ParallelUnion(singletonList(branch), executor, false, 2);
+
+        branch.awaitRows(3);
+        Thread.sleep(100);
+
+        // capacity of the queue, plus a row waiting to be put
+        assertThat(branch.rows.get()).isLessThanOrEqualTo(3);
+        assertThat(union.next()).isEqualTo(0);
+        union.close();
+    }
+
+    @Test
+    public void closeCancelsBranches() throws Exception {
+        CountingIterator branch = new CountingIterator(Integer.MAX_VALUE);
+        ParallelUnion union = new ParallelUnion(singletonList(branch), executor, false, 2);
+        branch.awaitRows(1);
+
+        union.close();
+        executor.shutdown();
+
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(union.hasNext()).isFalse();
+    }
+
+    @Test
+    public void saturatedExecutor() throws Exception {
+        ExecutorService single = Executors.newSingleThreadExecutor();
+        CountDownLatch blocker = new CountDownLatch(1);
+        single.submit(() -> {
+            blocker.await();
+            return null;
+        });
+        try {
+            ParallelUnion union = new ParallelUnion(asList(
+                new CountingIterator(10),
+                new CountingIterator(10)
+            ), single, false, 1);
+
+            List<Object> rows = new ArrayList<>();
+            union.forEachRemaining(rows::add);
+
+            assertThat(rows).hasSize(20);
+        } finally {
+            blocker.countDown();
+            single.shutdownNow();
+        }
+    }
+
+    @Test
+    public void branchFailure() {
+        Iterator<Object> failing = new Iterator<Object>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Object next() {
+                throw new IllegalStateException("branch failed");
+            }
+        };
+        ParallelUnion union = new ParallelUnion(asList(
+            new CountingIterator(Integer.MAX_VALUE),
+            failing
+        ), executor, false, 1);
+
+        assertThatThrownBy(() -> union.forEachRemaining(row -> {
+        }))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("branch failed");
+    }
+
+    private static Map<String, Object> row(String id) {
+        Map<Object, Object> node = new HashMap<>();
+        node.put(T.id, id);
+        node.put(T.label, "vertex");
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("n", node);
+        row.put("m", Tokens.NULL);
+        return row;
+    }
+
+    private static final class CountingIterator implements Iterator<Object> {
+        private final int size;
+        private final AtomicInteger rows = new AtomicInteger();
+
+        private CountingIterator(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rows.get() < size;
+        }
+
+        @Override
+        public Object next() {
+            return rows.getAndIncrement();
+        }
+
+        private void awaitRows(int count) throws InterruptedException {
+            while (rows.get() < count) {
+                Thread.sleep(1);
+            }
+        }
+    }
+}
@@ -15,10 +15,22 @@
  */
 package org.opencypher.gremlin.extension;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 @FunctionalInterface
 public interface CypherProcedure {
     List<Map<String, Object>> call(Map<String, Object> arguments);
+
+    /**
+     * Calls the procedure, returning result rows as they are produced.
+     *
+     * @param arguments procedure arguments
+     * @return result rows
+     * @see CypherStreamingProcedure
+     */
+    default Iterator<Map<String, Object>> stream(Map<String, Object> arguments) {
+        return call(arguments).iterator();
+    }
 }
@@ -34,6 +34,10 @@ public final class CypherProcedureDefinition {
         implementations.put(name, implementation);
     }
 
+    public void defineStreaming(String name, List<CypherBinding> arguments, List<CypherBinding> results, CypherStreamingProcedure implementation) {
+        define(name, arguments, results, implementation);
+    }
+
     public Map<String, CypherProcedureSignature> getSignatures() {
         return signatures;
     }
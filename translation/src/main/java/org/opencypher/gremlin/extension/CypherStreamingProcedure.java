@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.extension;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Procedure that produces result rows lazily, without materializing them in a list.
+ */
+@FunctionalInterface
+public interface CypherStreamingProcedure extends CypherProcedure {
+    @Override
+    Iterator<Map<String, Object>> stream(Map<String, Object> arguments);
+
+    @Override
+    default List<Map<String, Object>> call(Map<String, Object> arguments) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        stream(arguments).forEachRemaining(rows::add);
+        return rows;
+    }
+}
@@ -71,6 +71,8 @@ public interface GremlinSteps<T, P> {
 
     GremlinSteps<T, P> barrier();
 
+    GremlinSteps<T, P> barrier(int maxBarrierSize);
+
     GremlinSteps<T, P> bothE(String... edgeLabels);
 
     GremlinSteps<T, P> by(GremlinSteps<T, P> traversal);
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Bounded thread-safe cache of query translations with least-recently-used eviction.
+ * <p>
+ * Lookups do not lock: entries are kept in a {@link ConcurrentHashMap} and stamped on access.
+ * When a new translation exceeds the maximum size, the least recently used entries are evicted
+ * by one thread at a time, which scans the cache. Translating on a miss costs much more than that scan.
+ * <p>
+ * Usage example:
+ * <pre>{@code
+ * TranslationCache<String, TranslationPlan> cache = new TranslationCache<>(1000);
+ * TranslationPlan plan = cache.get(
+ *     cypher,
+ *     p -> p.isReusableWith(parameters),
+ *     q -> CypherAst.parse(q, parameters).plan(flavor, features, procedures)
+ * );
+ * }</pre>
+ *
+ * @param <K> cache key type
+ * @param <V> cached translation type
+ */
+public final class TranslationCache<K, V> {
+    private final int maximumSize;
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final Object evictionLock = new Object();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Creates a cache that holds at most {@code maximumSize} translations.
+     * A cache with non-positive size does not store anything.
+     *
+     * @param maximumSize maximum number of cached translations
+     */
+    public TranslationCache(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns a cached translation, or translates and caches a new one.
+     *
+     * @param key       cache key
+     * @param reusable  checks if a cached translation is valid for the current request
+     * @param translate produces a translation on a cache miss
+     * @return translation
+     */
+    public V get(K key, Predicate<? super V> reusable, Function<? super K, ? extends V> translate) {
+        V cached = getIfPresent(key);
+        if (cached != null && reusable.test(cached)) {
+            hitCount.increment();
+            return cached;
+        }
+
+        missCount.increment();
+        V translation = translate.apply(key);
+        put(key, translation);
+        return translation;
+    }
+
+    /**
+     * Returns a cached translation, or translates and caches a new one.
+     *
+     * @param key       cache key
+     * @param translate produces a translation on a cache miss
+     * @return translation
+     */
+    public V get(K key, Function<? super K, ? extends V> translate) {
+        return get(key, v -> true, translate);
+    }
+
+    private V getIfPresent(K key) {
+        if (maximumSize <= 0) {
+            return null;
+        }
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        entry.lastAccess = clock.incrementAndGet();
+        return entry.value;
+    }
+
+    private void put(K key, V translation) {
+        if (maximumSize <= 0 || translation == null) {
+            return;
+        }
+        entries.put(key, new Entry<>(translation, clock.incrementAndGet()));
+        if (entries.size() > maximumSize) {
+            evict();
+        }
+    }
+
+    private void evict() {
+        synchronized (evictionLock) {
+            while (entries.size() > maximumSize) {
+                Map.Entry<K, Entry<V>> eldest = null;
+                for (Map.Entry<K, Entry<V>> e : entries.entrySet()) {
+                    if (eldest == null || e.getValue().lastAccess < eldest.getValue().lastAccess) {
+                        eldest = e;
+                    }
+                }
+                if (eldest == null) {
+                    return;
+                }
+                if (entries.remove(eldest.getKey(), eldest.getValue())) {
+                    evictionCount.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Discards all cached translations.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the current number of cached translations.
+     *
+     * @return cache size
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns a snapshot of cache statistics.
+     *
+     * @return cache statistics
+     */
+    public Stats stats() {
+        return new Stats(size(), hitCount.sum(), missCount.sum(), evictionCount.sum());
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private volatile long lastAccess;
+
+        private Entry(V value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    /**
+     * Snapshot of {@link TranslationCache} statistics.
+     */
+    public static final class Stats {
+        private final int size;
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+
+        private Stats(int size, long hitCount, long missCount, long evictionCount) {
+            this.size = size;
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public long hitCount() {
+            return hitCount;
+        }
+
+        public long missCount() {
+            return missCount;
+        }
+
+        public long evictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * Returns the ratio of requests served from the cache.
+         *
+         * @return hit ratio, or {@code 1.0} if there were no requests
+         */
+        public double hitRate() {
+            long requestCount = hitCount + missCount;
+            return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+        }
+
+        @Override
+        public String toString() {
+            return "TranslationCache.Stats{" +
+                "size=" + size +
+                ", hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                ", evictionCount=" + evictionCount +
+                '}';
+        }
+    }
+}
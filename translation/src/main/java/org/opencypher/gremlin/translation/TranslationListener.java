@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation;
+
+/**
+ * Receives timings of translation phases.
+ * <p>
+ * Methods are called on the translating thread, so implementations should be fast and thread-safe.
+ *
+ * @see TranslationMetrics
+ * @see CypherAst#parse(String, java.util.Map, java.util.Map, TranslationListener)
+ */
+public interface TranslationListener {
+
+    /**
+     * Returns a listener that ignores all events.
+     *
+     * @return no-op listener
+     */
+    static TranslationListener none() {
+        return new TranslationListener() {
+        };
+    }
+
+    /**
+     * Called when a translation phase is completed.
+     *
+     * @param phase translation phase
+     * @param nanos phase duration in nanoseconds
+     */
+    default void phaseCompleted(TranslationPhase phase, long nanos) {
+    }
+
+    /**
+     * Called after each application of a rewriter of the translator flavor.
+     * A rewriter may be applied more than once if the intermediate representation is changed by other rewriters.
+     *
+     * @param rewriter    rewriter name
+     * @param nanos       rewriter duration in nanoseconds
+     * @param stepsBefore number of intermediate representation steps before rewriting
+     * @param stepsAfter  number of intermediate representation steps after rewriting
+     */
+    default void rewriterCompleted(String rewriter, long nanos, int stepsBefore, int stepsAfter) {
+    }
+
+    /**
+     * Called when a rewriter of the translator flavor is skipped,
+     * because none of its trigger steps occur in the intermediate representation.
+     *
+     * @param rewriter rewriter name
+     */
+    default void rewriterSkipped(String rewriter) {
+    }
+
+    /**
+     * Called after all rewriters of the translator flavor are applied.
+     *
+     * @param stepsBefore number of intermediate representation steps produced by walking the AST
+     * @param stepsAfter  number of intermediate representation steps after rewriting
+     */
+    default void rewritingCompleted(int stepsBefore, int stepsAfter) {
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation;
+
+import static java.util.Collections.unmodifiableMap;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe registry of translation phase and rewriter timings.
+ * <p>
+ * Usage example:
+ * <pre>{@code
+ * TranslationMetrics metrics = new TranslationMetrics();
+ * CypherAst.parse(cypher, parameters, signatures, metrics).plan(translator, procedures);
+ * TranslationMetrics.Timing rewriting = metrics.phase(TranslationPhase.REWRITING);
+ * }</pre>
+ */
+public final class TranslationMetrics implements TranslationListener {
+    private final Map<TranslationPhase, Timer> phases = new EnumMap<>(TranslationPhase.class);
+    private final ConcurrentMap<String, Timer> rewriters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> skippedRewriters = new ConcurrentHashMap<>();
+    private final LongAdder stepsBeforeRewriting = new LongAdder();
+    private final LongAdder stepsAfterRewriting = new LongAdder();
+
+    public TranslationMetrics() {
+        for (TranslationPhase phase : TranslationPhase.values()) {
+            phases.put(phase, new Timer());
+        }
+    }
+
+    @Override
+    public void phaseCompleted(TranslationPhase phase, long nanos) {
+        phases.get(phase).record(nanos);
+    }
+
+    @Override
+    public void rewriterCompleted(String rewriter, long nanos, int stepsBefore, int stepsAfter) {
+        rewriters.computeIfAbsent(rewriter, r -> new Timer()).record(nanos);
+    }
+
+    @Override
+    public void rewriterSkipped(String rewriter) {
+        skippedRewriters.computeIfAbsent(rewriter, r -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records the size of the intermediate representation before and after all rewriters are applied.
+     *
+     * @param stepsBefore number of steps produced by walking the AST
+     * @param stepsAfter  number of steps after rewriting
+     */
+    @Override
+    public void rewritingCompleted(int stepsBefore, int stepsAfter) {
+        stepsBeforeRewriting.add(stepsBefore);
+        stepsAfterRewriting.add(stepsAfter);
+    }
+
+    /**
+     * Returns a snapshot of timings of a translation phase.
+     *
+     * @param phase translation phase
+     * @return phase timings
+     */
+    public Timing phase(TranslationPhase phase) {
+        return phases.get(phase).snapshot();
+    }
+
+    /**
+     * Returns snapshots of timings of every rewriter applied so far, by rewriter name.
+     * Timing count is the number of times the rewriter was applied.
+     *
+     * @return rewriter timings
+     */
+    public Map<String, Timing> rewriters() {
+        Map<String, Timing> result = new TreeMap<>();
+        rewriters.forEach((name, timer) -> result.put(name, timer.snapshot()));
+        return unmodifiableMap(result);
+    }
+
+    /**
+     * Returns how many times each rewriter was skipped because its trigger steps were absent, by rewriter name.
+     *
+     * @return skip counts
+     */
+    public Map<String, Long> skippedRewriters() {
+        Map<String, Long> result = new TreeMap<>();
+        skippedRewriters.forEach((name, count) -> result.put(name, count.sum()));
+        return unmodifiableMap(result);
+    }
+
+    /**
+     * Returns the total number of intermediate representation steps before rewriting.
+     *
+     * @return step count
+     */
+    public long stepsBeforeRewriting() {
+        return stepsBeforeRewriting.sum();
+    }
+
+    /**
+     * Returns the total number of intermediate representation steps after rewriting.
+     *
+     * @return step count
+     */
+    public long stepsAfterRewriting() {
+        return stepsAfterRewriting.sum();
+    }
+
+    @Override
+    public String toString() {
+        Map<TranslationPhase, Timing> phaseTimings = new EnumMap<>(TranslationPhase.class);
+        phases.forEach((phase, timer) -> phaseTimings.put(phase, timer.snapshot()));
+        return "TranslationMetrics{" +
+            "phases=" + phaseTimings +
+            ", rewriters=" + rewriters() +
+            ", skippedRewriters=" + skippedRewriters() +
+            ", stepsBeforeRewriting=" + stepsBeforeRewriting() +
+            ", stepsAfterRewriting=" + stepsAfterRewriting() +
+            '}';
+    }
+
+    private static final class Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray histogram = new AtomicLongArray(Timing.BUCKETS);
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            histogram.incrementAndGet(Timing.bucket(nanos));
+        }
+
+        Timing snapshot() {
+            long[] buckets = new long[Timing.BUCKETS];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = histogram.get(i);
+            }
+            return new Timing(count.sum(), totalNanos.sum(), maxNanos.get(), buckets);
+        }
+    }
+
+    /**
+     * Snapshot of timings of a translation phase or rewriter.
+     * <p>
+     * Durations are also counted in a histogram with power-of-two microsecond buckets:
+     * bucket {@code 0} counts durations below 1&micro;s,
+     * bucket {@code i} counts durations from 2<sup>i-1</sup> to 2<sup>i</sup>&micro;s,
+     * and the last bucket counts all longer durations.
+     */
+    public static final class Timing {
+        static final int BUCKETS = 24;
+
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long[] histogram;
+
+        private Timing(long count, long totalNanos, long maxNanos, long[] histogram) {
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.histogram = histogram;
+        }
+
+        static int bucket(long nanos) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+            return Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKETS - 1);
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public long totalNanos() {
+            return totalNanos;
+        }
+
+        public long maxNanos() {
+            return maxNanos;
+        }
+
+        /**
+         * Returns the mean duration.
+         *
+         * @return mean duration in nanoseconds, or {@code 0} if nothing was recorded
+         */
+        public double meanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+
+        /**
+         * Returns the latency histogram.
+         *
+         * @return counts of durations by bucket
+         */
+        public long[] histogram() {
+            return histogram.clone();
+        }
+
+        @Override
+        public String toString() {
+            return "Timing{" +
+                "count=" + count +
+                ", totalNanos=" + totalNanos +
+                ", maxNanos=" + maxNanos +
+                '}';
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation;
+
+/**
+ * Phases of a Cypher to Gremlin translation, as reported to a {@link TranslationListener}.
+ */
+public enum TranslationPhase {
+    /**
+     * Pre-parsing and parsing of the query text into an AST.
+     */
+    PARSING,
+
+    /**
+     * Semantic analysis and normalization of the AST.
+     */
+    SEMANTIC_ANALYSIS,
+
+    /**
+     * Walking the AST into the intermediate representation.
+     */
+    WALKING,
+
+    /**
+     * Applying all rewriters of the translator flavor.
+     */
+    REWRITING,
+
+    /**
+     * Checking post-conditions of the translator flavor.
+     */
+    POST_CONDITIONS,
+
+    /**
+     * Writing the intermediate representation to the translation target.
+     */
+    WRITING
+}
@@ -104,6 +104,12 @@ public class BytecodeGremlinSteps implements GremlinSteps<Bytecode, P> {
         return this;
     }
 
+    @Override
+    public GremlinSteps<Bytecode, P> barrier(int maxBarrierSize) {
+        bytecode.addStep(Symbols.barrier, maxBarrierSize);
+        return this;
+    }
+
     @Override
     public GremlinSteps<Bytecode, P> bothE(String... edgeLabels) {
         bytecode.addStep(Symbols.bothE, (Object[]) edgeLabels);
@@ -109,6 +109,12 @@ public class GroovyGremlinSteps implements GremlinSteps<String, GroovyPredicate>
         return this;
     }
 
+    @Override
+    public GremlinSteps<String, GroovyPredicate> barrier(int maxBarrierSize) {
+        g.append(chain("barrier", maxBarrierSize));
+        return this;
+    }
+
     @Override
     public GremlinSteps<String, GroovyPredicate> bothE(String... edgeLabels) {
         g.append(chain("bothE", (Object[]) edgeLabels));
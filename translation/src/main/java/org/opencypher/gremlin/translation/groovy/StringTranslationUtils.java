@@ -57,14 +57,14 @@ public final class StringTranslationUtils {
                 .collect(Collectors.joining(", ", "[", "]"));
         }
         if (argument instanceof Double || argument instanceof Float) {
+            if (Double.isNaN(((Number) argument).doubleValue())) {
+                return "Double.NaN";
+            }
             return argument.toString() + "d";
         }
         if (argument instanceof String) {
             return toStringLiteral((String) argument);
         }
-        if (argument instanceof Double || argument instanceof Float) {
-            return argument.toString() + "d";
-        }
         if (argument == null) {
             return "null";
         }
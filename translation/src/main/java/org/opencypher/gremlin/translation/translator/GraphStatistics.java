@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.translator;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * Optional statistics about the target graph
+ * that help the translator choose where to start matching a pattern.
+ * <p>
+ * Statistics are only used as hints: the translation is correct with any statistics,
+ * including none at all.
+ *
+ * @see Translator.FlavorBuilder#withStatistics(GraphStatistics)
+ */
+public final class GraphStatistics {
+    private static final GraphStatistics EMPTY = builder().build();
+
+    private final Long vertexCount;
+    private final Map<String, Long> labelCounts;
+    private final Set<String> indexedKeys;
+
+    private GraphStatistics(Long vertexCount, Map<String, Long> labelCounts, Set<String> indexedKeys) {
+        this.vertexCount = vertexCount;
+        this.labelCounts = unmodifiableMap(new HashMap<>(labelCounts));
+        this.indexedKeys = unmodifiableSet(new HashSet<>(indexedKeys));
+    }
+
+    /**
+     * Returns statistics that contain no information about the graph.
+     *
+     * @return empty statistics
+     */
+    public static GraphStatistics empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Starts to build graph statistics.
+     *
+     * @return statistics builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the total number of vertices, if known.
+     *
+     * @return vertex count
+     */
+    public OptionalLong vertexCount() {
+        return vertexCount != null ? OptionalLong.of(vertexCount) : OptionalLong.empty();
+    }
+
+    /**
+     * Returns the number of vertices with a given label, if known.
+     *
+     * @param label vertex label
+     * @return vertex count
+     */
+    public OptionalLong labelCount(String label) {
+        Long count = labelCounts.get(label);
+        return count != null ? OptionalLong.of(count) : OptionalLong.empty();
+    }
+
+    /**
+     * Returns true if equality lookups by a given property key are backed by an index.
+     *
+     * @param key property key
+     * @return true, if the key is indexed, false otherwise
+     */
+    public boolean isIndexed(String key) {
+        return indexedKeys.contains(key);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        GraphStatistics that = (GraphStatistics) o;
+        return Objects.equals(vertexCount, that.vertexCount) &&
+            labelCounts.equals(that.labelCounts) &&
+            indexedKeys.equals(that.indexedKeys);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(vertexCount, labelCounts, indexedKeys);
+    }
+
+    @Override
+    public String toString() {
+        return "GraphStatistics{" +
+            "vertexCount=" + vertexCount +
+            ", labelCounts=" + labelCounts +
+            ", indexedKeys=" + indexedKeys +
+            '}';
+    }
+
+    public static final class Builder {
+        private Long vertexCount;
+        private final Map<String, Long> labelCounts = new HashMap<>();
+        private final Set<String> indexedKeys = new HashSet<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the total number of vertices.
+         *
+         * @param count vertex count
+         * @return statistics builder
+         */
+        public Builder vertexCount(long count) {
+            this.vertexCount = count;
+            return this;
+        }
+
+        /**
+         * Sets the number of vertices with a given label.
+         *
+         * @param label vertex label
+         * @param count vertex count
+         * @return statistics builder
+         */
+        public Builder labelCount(String label, long count) {
+            labelCounts.put(label, count);
+            return this;
+        }
+
+        /**
+         * Marks property keys that are backed by an index.
+         *
+         * @param keys property keys
+         * @return statistics builder
+         */
+        public Builder indexedKeys(String... keys) {
+            for (String key : keys) {
+                indexedKeys.add(key);
+            }
+            return this;
+        }
+
+        /**
+         * Builds graph statistics.
+         *
+         * @return graph statistics
+         */
+        public GraphStatistics build() {
+            return new GraphStatistics(vertexCount, labelCounts, indexedKeys);
+        }
+    }
+}
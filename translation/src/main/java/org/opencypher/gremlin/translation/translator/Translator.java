@@ -51,22 +51,33 @@ import org.opencypher.gremlin.translation.traversal.TraversalGremlinSteps;
  * Translator instances are not reusable.
  */
 public final class Translator<T, P> {
+    /**
+     * Default maximum number of hops for variable-length relationship patterns without an upper bound.
+     */
+    public static final int DEFAULT_HOP_LIMIT = 10;
+
     private final GremlinSteps<T, P> steps;
     private final GremlinPredicates<P> predicates;
     private final GremlinBindings bindings;
     private final Set<TranslatorFeature> features;
     private final TranslatorFlavor flavor;
+    private final GraphStatistics statistics;
+    private final int hopLimit;
 
     private Translator(GremlinSteps<T, P> steps,
                        GremlinPredicates<P> predicates,
                        GremlinBindings bindings,
                        Set<TranslatorFeature> features,
-                       TranslatorFlavor flavor) {
+                       TranslatorFlavor flavor,
+                       GraphStatistics statistics,
+                       int hopLimit) {
         this.steps = steps;
         this.predicates = predicates;
         this.bindings = bindings;
         this.features = features;
         this.flavor = flavor;
+        this.statistics = statistics;
+        this.hopLimit = hopLimit;
     }
 
     /**
@@ -130,6 +141,25 @@ public final class Translator<T, P> {
         return flavor;
     }
 
+    /**
+     * Returns statistics about the target graph used for planning this translation.
+     *
+     * @return graph statistics
+     */
+    public GraphStatistics statistics() {
+        return statistics;
+    }
+
+    /**
+     * Returns the maximum number of hops for variable-length relationship patterns
+     * without an upper bound, e.g. <code>-[*]-&gt;</code> or <code>-[*2..]-&gt;</code>.
+     *
+     * @return hop limit
+     */
+    public int hopLimit() {
+        return hopLimit;
+    }
+
     /**
      * Creates a translation for the configured target.
      *
@@ -252,6 +282,8 @@ public final class Translator<T, P> {
         private final GremlinPredicates<P> predicates;
         protected GremlinBindings bindings;
         private final Set<TranslatorFeature> features = EnumSet.noneOf(TranslatorFeature.class);
+        private GraphStatistics statistics = GraphStatistics.empty();
+        private int hopLimit = DEFAULT_HOP_LIMIT;
 
         private FlavorBuilder(GremlinSteps<T, P> steps,
                               GremlinPredicates<P> predicates,
@@ -294,6 +326,34 @@ public final class Translator<T, P> {
             return this;
         }
 
+        /**
+         * Provides statistics about the target graph to the {@link Translator} that's being built.
+         * Statistics are used to choose the most selective start of multi-hop patterns.
+         *
+         * @param statistics graph statistics
+         * @return builder for translator
+         */
+        public FlavorBuilder<T, P> withStatistics(GraphStatistics statistics) {
+            this.statistics = statistics;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of hops for variable-length relationship patterns
+         * without an upper bound in the {@link Translator} that's being built.
+         *
+         * @param hopLimit hop limit
+         * @return builder for translator
+         * @see #DEFAULT_HOP_LIMIT
+         */
+        public FlavorBuilder<T, P> withHopLimit(int hopLimit) {
+            if (hopLimit < 1) {
+                throw new IllegalArgumentException("Hop limit must be positive: " + hopLimit);
+            }
+            this.hopLimit = hopLimit;
+            return this;
+        }
+
         /**
          * Builds a {@link Translator}.
          *
@@ -315,7 +375,9 @@ public final class Translator<T, P> {
                 predicates,
                 bindings,
                 features,
-                getFlavor(flavor, features)
+                getFlavor(flavor, features),
+                statistics,
+                hopLimit
             );
         }
 
@@ -334,6 +396,7 @@ public final class Translator<T, P> {
          * <li><code>gremlin33x</code></li>
          * <li><code>gremlin</code></li>
          * <li><code>gremlin+cfog_server_extensions+inline_parameters</code></li>
+         * <li><code>gremlin+hop_limit=20</code></li>
          * <li><code>...</code></li>
          * </ul>
          *
@@ -364,6 +427,13 @@ public final class Translator<T, P> {
                     inlineParameters();
                 } else if ("cfog_server_extensions".equals(feature)) {
                     enableCypherExtensions();
+                } else if (feature.startsWith("hop_limit=")) {
+                    try {
+                        withHopLimit(Integer.parseInt(feature.substring("hop_limit=".length())));
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException(
+                            errorMessage("Invalid hop limit: " + feature, translatorDefinition), e);
+                    }
                 } else {
                     try {
                         TranslatorFeature translatorFeature = TranslatorFeature.valueOf(feature.toUpperCase());
@@ -384,7 +454,7 @@ public final class Translator<T, P> {
             String validFeatures = Arrays.stream(TranslatorFeature.values())
                 .map(f -> f.name().toLowerCase())
                 .collect(Collectors.joining(", "))
-                + ", inline_parameters, cfog_server_extensions";
+                + ", inline_parameters, cfog_server_extensions, hop_limit=N";
 
             return format("%s in `%s`\nFormat is `FLAVOR[+FEATURE][+FEATURE]...`\n" +
                     "Valid FLAVOR: %s\nValid FEATURE: %s\nExample: gremlin+cfog_server_extensions+inline_parameters",
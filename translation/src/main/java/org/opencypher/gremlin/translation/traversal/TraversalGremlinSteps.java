@@ -139,6 +139,12 @@ public class TraversalGremlinSteps implements GremlinSteps<GraphTraversal, P> {
         return this;
     }
 
+    @Override
+    public GremlinSteps<GraphTraversal, P> barrier(int maxBarrierSize) {
+        g.barrier(maxBarrierSize);
+        return this;
+    }
+
     @Override
     public GremlinSteps<GraphTraversal, P> bothE(String... edgeLabels) {
         g.bothE(edgeLabels);
@@ -64,6 +64,13 @@ public class CustomFunction {
         );
     }
 
+    public static CustomFunction cypherNumberToInteger() {
+        return new CustomFunction(
+            "cypherNumberToInteger",
+            CustomFunctions.cypherNumberToInteger()
+        );
+    }
+
     public static CustomFunction cypherToFloat() {
         return new CustomFunction(
             "cypherToFloat",
@@ -71,6 +78,13 @@ public class CustomFunction {
         );
     }
 
+    public static CustomFunction cypherNumberToFloat() {
+        return new CustomFunction(
+            "cypherNumberToFloat",
+            CustomFunctions.cypherNumberToFloat()
+        );
+    }
+
     public static CustomFunction cypherProperties() {
         return new CustomFunction(
             "cypherProperties",
@@ -85,6 +99,13 @@ public class CustomFunction {
         );
     }
 
+    public static CustomFunction cypherListIndex() {
+        return new CustomFunction(
+            "cypherListIndex",
+            CustomFunctions.cypherListIndex()
+        );
+    }
+
     public static CustomFunction cypherListSlice() {
         return new CustomFunction(
             "cypherListSlice",
@@ -113,6 +134,13 @@ public class CustomFunction {
         );
     }
 
+    public static CustomFunction cypherStringSize() {
+        return new CustomFunction(
+            "cypherStringSize",
+            CustomFunctions.cypherStringSize()
+        );
+    }
+
     public static CustomFunction cypherPlus() {
         return new CustomFunction(
             "cypherPlus",
@@ -120,6 +148,20 @@ public class CustomFunction {
         );
     }
 
+    public static CustomFunction cypherFloatPlus() {
+        return new CustomFunction(
+            "cypherFloatPlus",
+            CustomFunctions.cypherFloatPlus()
+        );
+    }
+
+    public static CustomFunction cypherStringPlus() {
+        return new CustomFunction(
+            "cypherStringPlus",
+            CustomFunctions.cypherStringPlus()
+        );
+    }
+
     public static CustomFunction cypherException() {
         return new CustomFunction(
             "cypherException",
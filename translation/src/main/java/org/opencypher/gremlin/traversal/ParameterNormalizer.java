@@ -16,48 +16,163 @@
 package org.opencypher.gremlin.traversal;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Map.Entry;
 import org.opencypher.gremlin.translation.Tokens;
 
+/**
+ * Converts Cypher query parameters to values supported by the translation.
+ * <p>
+ * Parameters are walked once, and maps and lists are copied only when they contain values to convert,
+ * so already normalized parameters (e.g. large lists of rows) are returned as is.
+ */
 public final class ParameterNormalizer {
     private ParameterNormalizer() {
     }
 
+    /**
+     * Normalizes parameters without modifying them.
+     *
+     * @param parameters parameters to normalize
+     * @return normalized parameters, the same map if nothing had to be converted
+     */
     public static Map<String, Object> normalize(Map<String, ?> parameters) {
-        return normalizeMap(parameters);
+        return normalizeMap(parameters, false);
+    }
+
+    /**
+     * Normalizes parameters, converting values of mutable maps and lists in place.
+     * Caller should own the parameters, e.g. when they are deserialized from a request.
+     *
+     * @param parameters parameters to normalize
+     * @return normalized parameters, the same map if it could be converted in place
+     */
+    public static Map<String, Object> normalizeInPlace(Map<String, ?> parameters) {
+        return normalizeMap(parameters, true);
     }
 
-    private static Object normalizeValue(Object value) {
+    private static Object normalizeValue(Object value, boolean inPlace) {
         if (value instanceof Map) {
-            return normalizeMap((Map<?, ?>) value);
+            return normalizeMap((Map<?, ?>) value, inPlace);
         } else if (value instanceof List) {
-            return normalizeList((List<?>) value);
+            return normalizeList((List<?>) value, inPlace);
         } else if (value instanceof Integer) {
             return ((Integer) value).longValue();
         } else if (value instanceof BigDecimal) {
             return ((BigDecimal) value).doubleValue();
         } else if (value == null) {
             return Tokens.NULL;
+        } else if (value instanceof long[]) {
+            return longList((long[]) value);
+        } else if (value instanceof int[]) {
+            return longList((int[]) value);
+        } else if (value instanceof double[]) {
+            return doubleList((double[]) value);
         }
         return value;
     }
 
-    private static Map<String, Object> normalizeMap(Map<?, ?> map) {
-        LinkedHashMap<String, Object> result = new LinkedHashMap<>();
-        for (Map.Entry<?, ?> e : map.entrySet()) {
-            String key = String.valueOf(e.getKey());
-            Object value = normalizeValue(e.getValue());
-            result.put(key, value);
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> normalizeMap(Map<?, ?> map, boolean inPlace) {
+        LinkedHashMap<String, Object> result = null;
+        for (Entry<?, ?> e : map.entrySet()) {
+            Object key = e.getKey();
+            Object value = e.getValue();
+            Object normalized = normalizeValue(value, inPlace);
+            if (result == null && (normalized != value || !(key instanceof String))) {
+                if (inPlace && key instanceof String && trySetValue(e, normalized)) {
+                    continue;
+                }
+                result = copyUntil(map, key);
+            }
+            if (result != null) {
+                result.put(String.valueOf(key), normalized);
+            }
+        }
+        return result != null ? result : (Map<String, Object>) map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean trySetValue(Entry<?, ?> entry, Object value) {
+        try {
+            ((Entry<?, Object>) entry).setValue(value);
+            return true;
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Copies entries that precede {@code stopKey}, which do not need to be converted.
+     */
+    private static LinkedHashMap<String, Object> copyUntil(Map<?, ?> map, Object stopKey) {
+        LinkedHashMap<String, Object> result = new LinkedHashMap<>(map.size() * 4 / 3 + 1);
+        for (Entry<?, ?> e : map.entrySet()) {
+            if (e.getKey() == stopKey) {
+                break;
+            }
+            result.put((String) e.getKey(), e.getValue());
         }
         return result;
     }
 
-    private static List<Object> normalizeList(List<?> list) {
-        return list.stream()
-            .map(ParameterNormalizer::normalizeValue)
-            .collect(Collectors.toList());
+    @SuppressWarnings("unchecked")
+    private static List<Object> normalizeList(List<?> list, boolean inPlace) {
+        List<Object> result = null;
+        ListIterator<?> iterator = list.listIterator();
+        while (iterator.hasNext()) {
+            int index = iterator.nextIndex();
+            Object value = iterator.next();
+            Object normalized = normalizeValue(value, inPlace);
+            if (result == null && normalized != value) {
+                if (inPlace && trySet(iterator, normalized)) {
+                    continue;
+                }
+                result = new ArrayList<>(list.size());
+                result.addAll(list.subList(0, index));
+            }
+            if (result != null) {
+                result.add(normalized);
+            }
+        }
+        return result != null ? result : (List<Object>) list;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean trySet(ListIterator<?> iterator, Object value) {
+        try {
+            ((ListIterator<Object>) iterator).set(value);
+            return true;
+        } catch (UnsupportedOperationException e) {
+            return false;
+        }
+    }
+
+    private static List<Object> longList(long[] array) {
+        List<Object> result = new ArrayList<>(array.length);
+        for (long v : array) {
+            result.add(v);
+        }
+        return result;
+    }
+
+    private static List<Object> longList(int[] array) {
+        List<Object> result = new ArrayList<>(array.length);
+        for (int v : array) {
+            result.add((long) v);
+        }
+        return result;
+    }
+
+    private static List<Object> doubleList(double[] array) {
+        List<Object> result = new ArrayList<>(array.length);
+        for (double v : array) {
+            result.add(v);
+        }
+        return result;
     }
 }
@@ -16,18 +16,18 @@
 package org.opencypher.gremlin.traversal;
 
 import static java.util.Collections.emptyMap;
-import static java.util.stream.Collectors.toList;
 import static org.opencypher.gremlin.extension.CypherBindingType.FLOAT;
 import static org.opencypher.gremlin.extension.CypherBindingType.INTEGER;
 import static org.opencypher.gremlin.extension.CypherBindingType.NUMBER;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import org.opencypher.gremlin.extension.CypherBinding;
 import org.opencypher.gremlin.extension.CypherBindingType;
 import org.opencypher.gremlin.extension.CypherProcedure;
@@ -39,6 +39,7 @@ public final class ProcedureContext {
     private final Map<String, CypherProcedureSignature> signatures = new HashMap<>();
     private final Map<String, CypherProcedure> implementations = new HashMap<>();
     private final ReturnNormalizer returnNormalizer = ReturnNormalizer.create(emptyMap());
+    private final AtomicLong version = new AtomicLong();
 
     private static final class LazyHolder {
         private static final ProcedureContext GLOBAL = empty();
@@ -64,6 +65,16 @@ public final class ProcedureContext {
         return signatures;
     }
 
+    /**
+     * Returns a number that changes every time procedure registrations change.
+     * Can be used to invalidate translations that depend on procedure signatures.
+     *
+     * @return registration version
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
     public CypherProcedureSignature findOrThrow(String name) {
         CypherProcedureSignature signature = signatures.get(name);
         if (signature == null) {
@@ -72,17 +83,10 @@ public final class ProcedureContext {
         return signature;
     }
 
-    private CypherProcedure findImplementationOrThrow(String name) {
-        CypherProcedure implementation = implementations.get(name);
-        if (implementation == null) {
-            throw new IllegalArgumentException("Procedure implementation not found: " + name);
-        }
-        return implementation;
-    }
-
     void unsafeClear() {
         signatures.clear();
         implementations.clear();
+        version.incrementAndGet();
     }
 
     void unsafeRegister(
@@ -93,77 +97,122 @@ public final class ProcedureContext {
     ) {
         signatures.put(name, new CypherProcedureSignature(arguments, results));
         implementations.put(name, implementation);
+        version.incrementAndGet();
     }
 
     public CustomFunction procedureCall(String name) {
+        ProcedureCall call = new ProcedureCall(name);
         return new CustomFunction(
             "procedureCall",
-            traverser -> {
-                Collection<?> arguments = (Collection<?>) traverser.get();
-                return call(name, arguments);
-            }
+            traverser -> call.call((Collection<?>) traverser.get())
         );
     }
 
-    private Object call(String name, Collection<?> arguments) {
-        CypherProcedureSignature signature = findOrThrow(name);
-        Object[] args = returnNormalizer.normalizeCollection(arguments).toArray();
-        List<CypherBinding> defArgs = signature.getArguments();
-        List<Object> callArgs = Arrays.asList(args);
-
-        // Defined argument types
-        List<Class<?>> defArgTypes = defArgs.stream()
-            .map(CypherBinding::getType)
-            .map(type -> NUMBER.isAssignableFrom(type) ? NUMBER : type)
-            .map(CypherBindingType::getJavaClass)
-            .collect(toList());
-
-        // Argument types in call
-        List<Class<?>> callArgTypes = new ArrayList<>();
-        for (int i = 0; i < callArgs.size(); i++) {
-            Object arg = callArgs.get(i);
-            Class<?> type = arg != null ? arg.getClass() : defArgTypes.get(i);
-            type = Number.class.isAssignableFrom(type) ? Number.class : type;
-            callArgTypes.add(type);
+    /**
+     * Validates procedure arguments at translation time.
+     *
+     * @param name          procedure name
+     * @param argumentTypes argument types, or {@code null} for arguments with type unknown before execution
+     */
+    public void validateArguments(String name, List<Class<?>> argumentTypes) {
+        new ProcedureCall(name).validate(argumentTypes.toArray(new Class<?>[0]));
+    }
+
+    /**
+     * Procedure call with signature resolved once per translation.
+     */
+    private final class ProcedureCall {
+        private final String name;
+        private final CypherBinding[] arguments;
+        private final Class<?>[] argumentTypes;
+        private final CypherBinding[] results;
+        private final CypherProcedure implementation;
+
+        private ProcedureCall(String name) {
+            CypherProcedureSignature signature = findOrThrow(name);
+            this.name = name;
+            this.arguments = signature.getArguments().toArray(new CypherBinding[0]);
+            this.results = signature.getResults().toArray(new CypherBinding[0]);
+            this.implementation = implementations.get(name);
+
+            this.argumentTypes = new Class<?>[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                CypherBindingType type = arguments[i].getType();
+                argumentTypes[i] = (NUMBER.isAssignableFrom(type) ? NUMBER : type).getJavaClass();
+            }
         }
 
-        // Validate signature
-        int defArgsSize = defArgTypes.size();
-        int callArgsSize = callArgTypes.size();
-        if (defArgsSize != callArgsSize) {
-            throw new IllegalArgumentException("Invalid number of arguments for " + name + ": " +
-                defArgsSize + " expected, but " + callArgsSize + " provided");
+        private Iterator<Map<String, Object>> call(Collection<?> arguments) {
+            Map<String, Object> implArgs = implementationArguments(arguments);
+            Iterator<Map<String, Object>> rows = implementation().stream(implArgs);
+            return new Iterator<Map<String, Object>>() {
+                @Override
+                public boolean hasNext() {
+                    return rows.hasNext();
+                }
+
+                @Override
+                public Map<String, Object> next() {
+                    return normalizeResult(rows.next());
+                }
+            };
         }
-        if (!defArgTypes.equals(callArgTypes)) {
-            throw new IllegalArgumentException("Invalid argument types for " + name + ": " +
-                defArgTypes + " expected, but " + callArgTypes + " provided");
+
+        private CypherProcedure implementation() {
+            if (implementation == null) {
+                throw new IllegalArgumentException("Procedure implementation not found: " + name);
+            }
+            return implementation;
         }
 
-        // Call implementation
-        CypherProcedure procedure = findImplementationOrThrow(name);
-        Map<String, Object> implArgs = new HashMap<>();
-        for (int i = 0; i < defArgsSize; i++) {
-            String argName = defArgs.get(i).getName();
-            CypherBindingType argType = defArgs.get(i).getType();
-            Object argValue = numericCast(callArgs.get(i), argType);
-            implArgs.put(argName, argValue);
+        private Map<String, Object> implementationArguments(Collection<?> arguments) {
+            Object[] args = returnNormalizer.normalizeCollection(arguments).toArray();
+
+            Class<?>[] callArgTypes = new Class<?>[args.length];
+            for (int i = 0; i < args.length; i++) {
+                callArgTypes[i] = args[i] != null ? args[i].getClass() : null;
+            }
+            validate(callArgTypes);
+
+            Map<String, Object> implArgs = new HashMap<>();
+            for (int i = 0; i < args.length; i++) {
+                implArgs.put(this.arguments[i].getName(), numericCast(args[i], this.arguments[i].getType()));
+            }
+            return implArgs;
+        }
+
+        private void validate(Class<?>[] callArgTypes) {
+            int defArgsSize = argumentTypes.length;
+            int callArgsSize = callArgTypes.length;
+            if (defArgsSize != callArgsSize) {
+                throw new IllegalArgumentException("Invalid number of arguments for " + name + ": " +
+                    defArgsSize + " expected, but " + callArgsSize + " provided");
+            }
+
+            boolean valid = true;
+            for (int i = 0; i < callArgsSize; i++) {
+                Class<?> type = callArgTypes[i];
+                if (type == null) {
+                    callArgTypes[i] = argumentTypes[i];
+                } else if (Number.class.isAssignableFrom(type)) {
+                    callArgTypes[i] = Number.class;
+                }
+                valid &= argumentTypes[i].equals(callArgTypes[i]);
+            }
+            if (!valid) {
+                throw new IllegalArgumentException("Invalid argument types for " + name + ": " +
+                    Arrays.asList(argumentTypes) + " expected, but " + Arrays.asList(callArgTypes) + " provided");
+            }
         }
-        List<Map<String, Object>> rows = procedure.call(implArgs);
 
-        // Reorder and normalize
-        List<CypherBinding> defResults = signature.getResults();
-        List<Map<String, Object>> results = new ArrayList<>();
-        for (Map<String, Object> row : rows) {
+        private Map<String, Object> normalizeResult(Map<String, Object> row) {
             Map<String, Object> orderedRow = new LinkedHashMap<>();
-            for (CypherBinding res : defResults) {
+            for (CypherBinding res : results) {
                 String resName = res.getName();
-                CypherBindingType resType = res.getType();
-                Object resValue = numericCast(row.get(resName), resType);
-                orderedRow.put(resName, resValue);
+                orderedRow.put(resName, numericCast(row.get(resName), res.getType()));
             }
-            results.add(returnNormalizer.normalize(orderedRow));
+            return returnNormalizer.normalizeInPlace(orderedRow);
         }
-        return results;
     }
 
     private static Object numericCast(Object value, CypherBindingType type) {
@@ -37,7 +37,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.stream.Collectors;
 import org.apache.tinkerpop.gremlin.process.traversal.Traverser;
 import org.apache.tinkerpop.gremlin.structure.Element;
 import org.apache.tinkerpop.gremlin.structure.Property;
@@ -51,11 +50,32 @@ import org.opencypher.v9_0.util.symbols.NodeType;
 import org.opencypher.v9_0.util.symbols.PathType;
 import org.opencypher.v9_0.util.symbols.RelationshipType;
 
+/**
+ * Converts rows returned by a translated query to Cypher values.
+ * <p>
+ * Converters for the returned columns are compiled once from the return types,
+ * so rows are normalized without per-value type checks.
+ */
 public final class ReturnNormalizer {
-    private final Map<String, CypherType> variableTypes;
+    private final Converter untyped = this::normalizeValue;
+    private final String[] columns;
+    private final Converter[] columnConverters;
+    private final Map<String, Converter> converters;
 
     private ReturnNormalizer(Map<String, CypherType> variableTypes) {
-        this.variableTypes = variableTypes;
+        int size = variableTypes.size();
+        this.columns = new String[size];
+        this.columnConverters = new Converter[size];
+        this.converters = new HashMap<>(mapCapacity(size));
+
+        int i = 0;
+        for (Entry<String, CypherType> e : variableTypes.entrySet()) {
+            Converter converter = compile(e.getValue());
+            columns[i] = e.getKey();
+            columnConverters[i] = converter;
+            converters.put(e.getKey(), converter);
+            i++;
+        }
     }
 
     public static ReturnNormalizer create(Map<String, CypherType> variableTypes) {
@@ -64,14 +84,42 @@ public final class ReturnNormalizer {
 
     @SuppressWarnings("unchecked")
     public Map<String, Object> normalize(Object row) {
-        if (row instanceof String) {
-            throw new IllegalStateException("Invalid response: expected Map, got String." +
-                " Probable cause: 'serializeResultToString' set to 'true' in Gremlin serializer config");
+        checkRow(row);
+        if (row instanceof Map) {
+            return normalizeMap((Map<?, ?>) row);
         }
-
         return (Map<String, Object>) normalizeValue(row);
     }
 
+    /**
+     * Normalizes a row, reusing it if it is a {@link LinkedHashMap} with string keys.
+     * Caller should own the row, as its values are replaced.
+     * Rows produced by a traversal may still be referenced by it (e.g. by {@code dedup()}),
+     * so they should be normalized with {@link #normalize(Iterator)} instead.
+     *
+     * @param row row to normalize
+     * @return normalized row
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> normalizeInPlace(Object row) {
+        checkRow(row);
+        if (row instanceof LinkedHashMap && hasStringKeys((Map<?, ?>) row)) {
+            Map<String, Object> map = (Map<String, Object>) row;
+            int i = 0;
+            for (Entry<String, Object> e : map.entrySet()) {
+                e.setValue(converter(i++, e.getKey()).convert(e.getValue()));
+            }
+            return map;
+        }
+        return normalize(row);
+    }
+
+    /**
+     * Normalizes rows into new maps, leaving source rows unchanged.
+     *
+     * @param source rows to normalize
+     * @return normalized rows
+     */
     public Iterator normalize(Iterator source) {
         return new Iterator() {
             @Override
@@ -86,6 +134,40 @@ public final class ReturnNormalizer {
         };
     }
 
+    private void checkRow(Object row) {
+        if (row instanceof String) {
+            throw new IllegalStateException("Invalid response: expected Map, got String." +
+                " Probable cause: 'serializeResultToString' set to 'true' in Gremlin serializer config");
+        }
+    }
+
+    private Converter converter(int index, String key) {
+        if (index < columns.length && columns[index].equals(key)) {
+            return columnConverters[index];
+        }
+        return converters.getOrDefault(key, untyped);
+    }
+
+    private Converter compile(CypherType type) {
+        if (type instanceof NodeType) {
+            return nullSafe(v -> normalizeElement((Map<?, ?>) v, NODE_TYPE));
+        } else if (type instanceof RelationshipType) {
+            return nullSafe(v -> normalizeRelationship((Map<?, ?>) v));
+        } else if (type instanceof PathType) {
+            return nullSafe(v -> normalizePath((Map<?, ?>) v));
+        } else if (type instanceof IntegerType) {
+            return nullSafe(this::normalizeInteger);
+        } else if (type instanceof ListType) {
+            Converter inner = compile(((ListType) type).innerType());
+            return nullSafe(v -> normalizeCollection((Collection<?>) v, inner));
+        }
+        return untyped;
+    }
+
+    private static Converter nullSafe(Converter converter) {
+        return v -> Tokens.NULL.equals(v) ? null : converter.convert(v);
+    }
+
     private Object normalizeValue(Object value) {
         if (value instanceof Map) {
             return normalizeMap((Map<?, ?>) value);
@@ -107,46 +189,24 @@ public final class ReturnNormalizer {
         return value;
     }
 
-    @SuppressWarnings("unchecked")
-    private Object normalizeValue(CypherType type, Object value) {
-        if (Tokens.NULL.equals(value)) {
-            return null;
-        } else if (type instanceof NodeType) {
-            return normalizeElement((Map<?, ?>) value, NODE_TYPE);
-        } else if (type instanceof RelationshipType) {
-            return normalizeRelationship((Map<?, ?>) value);
-        } else if (type instanceof PathType) {
-            return normalizePath((Map<?, ?>) value);
-        } else if (type instanceof IntegerType) {
-            return normalizeInteger(value);
-        } else if (type instanceof ListType) {
-            CypherType cypherType = ((ListType) type).innerType();
-            return ((Collection<?>) value)
-                .stream()
-                .map(v -> normalizeValue(cypherType, v))
-                .collect(Collectors.toList());
-        }
-
-        return normalizeValue(value);
-    }
-
     private Map<Object, Object> normalizeElement(Map<?, ?> value, String type) {
-        HashMap<Object, Object> result = new HashMap<>();
+        HashMap<Object, Object> result = new HashMap<>(mapCapacity(value.size() + 1));
         result.put(TYPE, type);
         result.put(ID, getT(value, T.id));
         result.put(LABEL, getT(value, T.label));
 
         boolean gremlinTokensCanBeMapKeys = value.containsKey(T.id);
-        value.entrySet().stream()
-            .filter(e1 -> isProperty(e1, gremlinTokensCanBeMapKeys))
-            .forEach(
-                e -> {
-                    if (NODE_TYPE.equals(type) && isVertexValueList(e.getValue())) {
-                        result.put(e.getKey(), normalizeValue(((Collection) e.getValue()).iterator().next()));
-                    } else {
-                        result.put(e.getKey(), normalizeValue(e.getValue()));
-                    }
-                });
+        boolean isNode = NODE_TYPE.equals(type);
+        for (Entry<?, ?> e : value.entrySet()) {
+            if (!isProperty(e, gremlinTokensCanBeMapKeys)) {
+                continue;
+            }
+            if (isNode && isVertexValueList(e.getValue())) {
+                result.put(e.getKey(), normalizeValue(((Collection) e.getValue()).iterator().next()));
+            } else {
+                result.put(e.getKey(), normalizeValue(e.getValue()));
+            }
+        }
 
         return result;
     }
@@ -164,9 +224,11 @@ public final class ReturnNormalizer {
             result.put(LABEL, getT(element, T.label));
 
             boolean gremlinTokensCanBeMapKeys = element.containsKey(T.id);
-            element.entrySet().stream()
-                .filter(e -> isProperty(e, gremlinTokensCanBeMapKeys))
-                .forEach(e -> result.put(e.getKey(), normalizeValue(e.getValue())));
+            for (Entry<?, ?> e : element.entrySet()) {
+                if (isProperty(e, gremlinTokensCanBeMapKeys)) {
+                    result.put(e.getKey(), normalizeValue(e.getValue()));
+                }
+            }
         }
 
         return result;
@@ -177,20 +239,21 @@ public final class ReturnNormalizer {
         List<Map<?, ?>> relationships = (List<Map<?, ?>>) value.get(PROJECTION_RELATIONSHIP);
         List<Map<?, ?>> elements = (List<Map<?, ?>>) value.get(PROJECTION_ELEMENT);
 
-        HashMap<Object, Map<?, ?>> relationshipMap = new HashMap<>();
+        HashMap<Object, Map<?, ?>> relationshipMap = new HashMap<>(mapCapacity(relationships.size()));
         for (Map<?, ?> relationship : relationships) {
             relationshipMap.put(relationship.get(PROJECTION_ID), relationship);
         }
 
-        List<Object> result = new ArrayList<>();
+        List<Object> result = new ArrayList<>(elements.size());
         for (Map<?, ?> element : elements) {
             Object id = getT(element, T.id);
-            boolean isRelationship = relationshipMap.containsKey(id);
+            Map<?, ?> relationship = relationshipMap.get(id);
+            boolean isRelationship = relationship != null;
 
             Map<Object, Object> normalized = normalizeElement(element, isRelationship ? RELATIONSHIP_TYPE : NODE_TYPE);
             if (isRelationship) {
-                normalized.put(INV, relationshipMap.get(id).get(PROJECTION_INV));
-                normalized.put(OUTV, relationshipMap.get(id).get(PROJECTION_OUTV));
+                normalized.put(INV, relationship.get(PROJECTION_INV));
+                normalized.put(OUTV, relationship.get(PROJECTION_OUTV));
             }
 
             result.add(normalized);
@@ -199,23 +262,26 @@ public final class ReturnNormalizer {
         return result;
     }
 
-    private Map<?, ?> normalizeMap(Map<?, ?> map) {
-        LinkedHashMap<String, Object> result = new LinkedHashMap<>();
+    private Map<String, Object> normalizeMap(Map<?, ?> map) {
+        LinkedHashMap<String, Object> result = new LinkedHashMap<>(mapCapacity(map.size()));
+        int i = 0;
         for (Entry<?, ?> e : map.entrySet()) {
             String key = String.valueOf(e.getKey());
-            Object value = variableTypes.containsKey(key) ?
-                normalizeValue(variableTypes.get(key), e.getValue()) :
-                normalizeValue(e.getValue());
-
-            result.put(key, value);
+            result.put(key, converter(i++, key).convert(e.getValue()));
         }
         return result;
     }
 
     Collection<?> normalizeCollection(Collection<?> value) {
-        return value.stream()
-            .map(this::normalizeValue)
-            .collect(Collectors.toList());
+        return normalizeCollection(value, untyped);
+    }
+
+    private List<Object> normalizeCollection(Collection<?> value, Converter converter) {
+        List<Object> result = new ArrayList<>(value.size());
+        for (Object v : value) {
+            result.add(converter.convert(v));
+        }
+        return result;
     }
 
     private Object normalizeInteger(Object value) {
@@ -246,6 +312,19 @@ public final class ReturnNormalizer {
         return (e instanceof Collection) && ((Collection) e).size() == 1;
     }
 
+    private static boolean hasStringKeys(Map<?, ?> map) {
+        for (Object key : map.keySet()) {
+            if (!(key instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int mapCapacity(int size) {
+        return size * 4 / 3 + 1;
+    }
+
     private boolean isProperty(Entry<?, ?> e, boolean gremlinTokensCanBeMapKeys) {
         if (gremlinTokensCanBeMapKeys) {
             return !T.id.equals(e.getKey()) &&
@@ -255,4 +334,9 @@ public final class ReturnNormalizer {
                 !("id".equals(e.getKey()) && !isVertexValueList(e.getValue()));
         }
     }
+
+    @FunctionalInterface
+    private interface Converter {
+        Object convert(Object value);
+    }
 }
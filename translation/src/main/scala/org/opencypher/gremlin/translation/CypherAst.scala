@@ -23,12 +23,15 @@ import org.opencypher.gremlin.extension.CypherProcedures.procedureName
 import org.opencypher.gremlin.extension._
 import org.opencypher.gremlin.translation.context.WalkerContext
 import org.opencypher.gremlin.translation.exception.SyntaxException
+import org.opencypher.gremlin.translation.TranslationPhase._
 import org.opencypher.gremlin.translation.ir.TranslationWriter
+import org.opencypher.gremlin.translation.ir.TraversalHelper.stepCount
 import org.opencypher.gremlin.translation.ir.builder.{IRGremlinBindings, IRGremlinPredicates, IRGremlinSteps}
 import org.opencypher.gremlin.translation.ir.model.GremlinStep
+import org.opencypher.gremlin.translation.ir.rewrite.RewriterScheduler
 import org.opencypher.gremlin.translation.preparser._
 import org.opencypher.gremlin.translation.translator.TranslatorFeature.{CYPHER_EXTENSIONS, MULTIPLE_LABELS}
-import org.opencypher.gremlin.translation.translator.{Translator, TranslatorFeature, TranslatorFlavor}
+import org.opencypher.gremlin.translation.translator.{GraphStatistics, Translator, TranslatorFeature, TranslatorFlavor}
 import org.opencypher.gremlin.translation.walker.StatementWalker
 import org.opencypher.gremlin.traversal.ProcedureContext
 import org.opencypher.v9_0.ast._
@@ -52,13 +55,15 @@ import scala.collection.mutable
   * @param expressionTypes expression Cypher types
   * @param returnTypes     return types by alias
   * @param options         pre-parser options provided by Cypher parser
+  * @param listener        receiver of translation phase timings
   */
 class CypherAst private (
     val statement: Statement,
     parameters: Map[String, Any],
     expressionTypes: Map[Expression, CypherType],
     returnTypes: Map[String, CypherType],
-    options: Seq[PreParserOption]) {
+    options: Seq[PreParserOption],
+    listener: TranslationListener) {
 
   /**
     * Creates an intermediate representation of the translation.
@@ -84,6 +89,46 @@ class CypherAst private (
       flavor: TranslatorFlavor,
       features: util.Collection[TranslatorFeature],
       procedures: ProcedureContext): Seq[GremlinStep] = {
+    plan(flavor, features, procedures).ir
+  }
+
+  /**
+    * Creates an intermediate representation of the translation
+    * that can be reused for subsequent executions of this query.
+    *
+    * @param flavor     translation flavor
+    * @param features   translator features
+    * @param procedures registered procedure context
+    * @return reusable to-Gremlin translation
+    * @see [[TranslationPlan.isReusableWith]]
+    */
+  def plan(
+      flavor: TranslatorFlavor,
+      features: util.Collection[TranslatorFeature],
+      procedures: ProcedureContext): TranslationPlan = {
+    plan(flavor, features, procedures, GraphStatistics.empty(), Translator.DEFAULT_HOP_LIMIT)
+  }
+
+  /**
+    * Creates an intermediate representation of the translation
+    * that can be reused for subsequent executions of this query,
+    * using flavor, features and other settings of a translator.
+    *
+    * @param translator translator to take settings from
+    * @param procedures registered procedure context
+    * @return reusable to-Gremlin translation
+    * @see [[TranslationPlan.isReusableWith]]
+    */
+  def plan(translator: Translator[_, _], procedures: ProcedureContext): TranslationPlan = {
+    plan(translator.flavor(), translator.features(), procedures, translator.statistics(), translator.hopLimit())
+  }
+
+  private[translation] def plan(
+      flavor: TranslatorFlavor,
+      features: util.Collection[TranslatorFeature],
+      procedures: ProcedureContext,
+      statistics: GraphStatistics,
+      hopLimit: Int): TranslationPlan = {
     val dslBuilder = Translator
       .builder()
       .custom(
@@ -94,17 +139,29 @@ class CypherAst private (
     features.asScala.foreach(dslBuilder.enable)
     val dsl = dslBuilder.build()
 
-    val context = WalkerContext(dsl, expressionTypes, procedures, parameters)
-    StatementWalker.walk(context, statement)
-    val ir = dsl.translate()
+    val context = WalkerContext(dsl, expressionTypes, procedures, parameters, statistics, hopLimit)
+    val ir = CypherAst.timed(listener, WALKING) {
+      StatementWalker.walk(context, statement)
+      dsl.translate()
+    }
 
-    val rewritten = flavor.rewriters.foldLeft(ir)((ir, rewriter) => rewriter(ir))
+    val rewritten = CypherAst.timed(listener, REWRITING) {
+      RewriterScheduler(flavor.rewriters, listener)(ir)
+    }
+    listener.rewritingCompleted(stepCount(ir), stepCount(rewritten))
 
-    flavor.postConditions
-      .flatMap(postCondition => postCondition(rewritten))
-      .foreach(msg => throw new SyntaxException(msg))
+    CypherAst.timed(listener, POST_CONDITIONS) {
+      flavor.postConditions
+        .flatMap(postCondition => postCondition(rewritten))
+        .foreach(msg => throw new SyntaxException(msg))
+    }
 
-    rewritten
+    new TranslationPlan(
+      rewritten,
+      returnTypes,
+      javaOptions,
+      context.parameterDependencies,
+      StatementWalker.bulkCreateParameter(statement))
   }
 
   /**
@@ -116,8 +173,10 @@ class CypherAst private (
     * @return to-Gremlin translation
     */
   def buildTranslation[T, P](dsl: Translator[T, P]): T = {
-    val ir = translate(dsl.flavor(), dsl.features(), ProcedureContext.empty())
-    TranslationWriter.write(ir, dsl, parameters)
+    val ir = plan(dsl, ProcedureContext.empty()).ir
+    CypherAst.timed(listener, WRITING) {
+      TranslationWriter.write(ir, dsl, parameters)
+    }
   }
 
   private val javaOptions: util.Set[StatementOption] = options.flatMap {
@@ -220,30 +279,64 @@ object CypherAst {
       queryText: String,
       parameters: util.Map[String, _],
       procedures: util.Map[String, CypherProcedureSignature]): CypherAst = {
+    parse(queryText, parameters, procedures, TranslationListener.none())
+  }
+
+  /**
+    * Constructs a new Cypher AST from the provided query,
+    * reporting timings of parsing and subsequent translations.
+    *
+    * @param queryText  Cypher query
+    * @param parameters Cypher query parameters
+    * @param procedures registered procedure context
+    * @param listener   receiver of translation phase timings
+    * @return Cypher AST wrapper
+    */
+  @throws[CypherException]
+  def parse(
+      queryText: String,
+      parameters: util.Map[String, _],
+      procedures: util.Map[String, CypherProcedureSignature],
+      listener: TranslationListener): CypherAst = {
     val scalaParameters = parameters.asScala.toMap
     val scalaProcedures = procedures.asScala.toMap
-    parse(queryText, scalaParameters, scalaProcedures)
+    parse(queryText, scalaParameters, scalaProcedures, listener)
   }
 
   @throws[CypherException]
   private def parse(
       queryText: String,
       parameters: Map[String, Any],
-      procedures: Map[String, CypherProcedureSignature]): CypherAst = {
-    val PreParsedStatement(preParsedQueryText, options, offset) = CypherPreParser(queryText)
-    val startState = InitialState(preParsedQueryText, Some(offset), EmptyPlannerName)
-    val state = CompilationPhases
-      .parsing(RewriterStepSequencer.newPlain, literalExtraction = Never)
-      .andThen(isolateAggregation)
-      .andThen(SemanticAnalysis(warn = false))
-      .andThen(Normalization)
-      .transform(startState, EmptyParserContext(preParsedQueryText, Some(offset)))
+      procedures: Map[String, CypherProcedureSignature],
+      listener: TranslationListener): CypherAst = {
+    val (parsedState, options, parserContext) = timed(listener, PARSING) {
+      val PreParsedStatement(preParsedQueryText, options, offset) = CypherPreParser(queryText)
+      val startState = InitialState(preParsedQueryText, Some(offset), EmptyPlannerName)
+      val parserContext = EmptyParserContext(preParsedQueryText, Some(offset))
+      val parsedState = CompilationPhases
+        .parsing(RewriterStepSequencer.newPlain, literalExtraction = Never)
+        .andThen(isolateAggregation)
+        .transform(startState, parserContext)
+      (parsedState, options, parserContext)
+    }
+    val state = timed(listener, SEMANTIC_ANALYSIS) {
+      SemanticAnalysis(warn = false)
+        .andThen(Normalization)
+        .transform(parsedState, parserContext)
+    }
 
     val statement = state.statement()
     val expressionTypes = getExpressionTypes(state)
     val returnTypes = getReturnTypes(expressionTypes, statement, procedures)
 
-    new CypherAst(statement, parameters, expressionTypes, returnTypes, options)
+    new CypherAst(statement, parameters, expressionTypes, returnTypes, options, listener)
+  }
+
+  private def timed[R](listener: TranslationListener, phase: TranslationPhase)(f: => R): R = {
+    val start = System.nanoTime()
+    val result = f
+    listener.phaseCompleted(phase, System.nanoTime() - start)
+    result
   }
 
   private def getExpressionTypes(state: BaseState): Map[Expression, CypherType] = {
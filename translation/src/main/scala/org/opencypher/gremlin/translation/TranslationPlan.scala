@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation
+
+import java.util
+
+import org.opencypher.gremlin.translation.Tokens.START
+import org.opencypher.gremlin.translation.ir.TraversalHelper._
+import org.opencypher.gremlin.translation.ir.model._
+import org.opencypher.gremlin.traversal.CustomFunction
+import org.opencypher.v9_0.util.symbols.CypherType
+
+import scala.collection.JavaConverters._
+
+/**
+  * Translation of a query to the intermediate representation
+  * that can be reused for subsequent executions of the same query.
+  *
+  * Parameters are kept as bindings in the intermediate representation,
+  * so the plan can be written with different parameter values,
+  * unless a parameter value was inlined during translation.
+  *
+  * @param ir                    intermediate representation of the translation
+  * @param returnTypes           return types by alias
+  * @param options               statement options
+  * @param parameterDependencies parameters that affected the translation by value
+  * @param bulkParameter         list parameter of a bulk creation query
+  */
+class TranslationPlan private[translation] (
+    val ir: Seq[GremlinStep],
+    returnTypes: Map[String, CypherType],
+    options: util.Set[StatementOption],
+    parameterDependencies: Map[String, Option[Any]],
+    bulkParameter: Option[String]) {
+
+  /**
+    * Gets types or return items
+    *
+    * @return map of aliases to types
+    */
+  def getReturnTypes: util.Map[String, CypherType] = {
+    new util.LinkedHashMap[String, CypherType](returnTypes.asJava)
+  }
+
+  /**
+    * Gets declared options for this query.
+    *
+    * @return set of statement options
+    */
+  def getOptions: util.Set[StatementOption] = {
+    new util.HashSet(options)
+  }
+
+  /**
+    * Gets the list parameter of a bulk creation query
+    * (`UNWIND $rows AS row` followed only by `CREATE` clauses).
+    * Such a query can be executed in batches of the list.
+    *
+    * @return parameter name, or empty if this is not a bulk creation
+    */
+  def getBulkParameter: util.Optional[String] = {
+    util.Optional.ofNullable(bulkParameter.orNull)
+  }
+
+  private lazy val unionBranches: Option[(Seq[Seq[GremlinStep]], Boolean)] = {
+    ir.toList match {
+      case Inject(START) :: Union(branches @ _*) :: rest if branches.forall(isReadOnly(_)) =>
+        val startedBranches = branches.map(Inject(START) +: _)
+        rest match {
+          case Nil                                         => Some((startedBranches, false))
+          case Dedup(labels @ _*) :: Nil if labels.isEmpty => Some((startedBranches, true))
+          case _                                           => None
+        }
+      case _ =>
+        None
+    }
+  }
+
+  /**
+    * Gets translations of top-level `UNION` branches
+    * that can be executed independently and merged.
+    * Branches that modify the graph are never split.
+    *
+    * @return branch translations, or an empty list if this is not a read-only union
+    */
+  def getUnionBranches: util.List[Seq[GremlinStep]] = {
+    unionBranches.map(_._1.asJava).getOrElse(util.Collections.emptyList())
+  }
+
+  /**
+    * Checks if merged results of [[getUnionBranches]] should be deduplicated.
+    *
+    * @return true, if this is a `UNION` without `ALL`
+    */
+  def isDistinctUnion: Boolean = {
+    unionBranches.exists(_._2)
+  }
+
+  /**
+    * Checks if this translation never modifies the graph.
+    * Procedure calls are assumed to have side effects.
+    *
+    * @return true, if the translation has no write steps
+    */
+  def isReadOnly: Boolean = {
+    isReadOnly(ir)
+  }
+
+  private def isReadOnly(steps: Seq[GremlinStep]): Boolean = {
+    foldTraversals(true)((acc, localSteps) =>
+      acc && localSteps.forall {
+        case AddV | _: AddV | _: AddE | Drop              => false
+        case _: PropertyG | _: PropertyV | _: PropertyVC  => false
+        case _: PropertyT | _: PropertyT2 | _: PropertyTC => false
+        case MapF(function) if isProcedureCall(function)  => false
+        case _                                            => true
+    })(steps)
+  }
+
+  // procedures may have side effects
+  private def isProcedureCall(function: CustomFunction): Boolean = {
+    function.getName == "procedureCall"
+  }
+
+  /**
+    * Checks if this plan is a valid translation of the query with the given parameters.
+    *
+    * @param parameters Cypher query parameters
+    * @return true, if no inlined parameter value differs
+    */
+  def isReusableWith(parameters: util.Map[String, _]): Boolean = {
+    parameterDependencies.forall {
+      case (name, value) =>
+        val actual = if (parameters.containsKey(name)) Some(parameters.get(name)) else None
+        actual == value
+    }
+  }
+}
@@ -15,11 +15,14 @@
  */
 package org.opencypher.gremlin.translation.context
 
-import org.opencypher.gremlin.translation.translator.Translator
+import java.util
+
+import org.opencypher.gremlin.translation.translator.{GraphStatistics, Translator}
 import org.opencypher.gremlin.traversal.ProcedureContext
 import org.opencypher.v9_0.expressions.Expression
 import org.opencypher.v9_0.util.symbols.CypherType
 
+import scala.collection.JavaConverters._
 import scala.collection.mutable
 
 object WalkerContext {
@@ -27,8 +30,26 @@ object WalkerContext {
       dsl: Translator[T, P],
       expressionTypes: Map[Expression, CypherType],
       procedures: ProcedureContext,
-      parameters: Map[String, Any]): WalkerContext[T, P] = {
-    new WalkerContext(dsl, expressionTypes, procedures, parameters)
+      parameters: Map[String, Any],
+      statistics: GraphStatistics = GraphStatistics.empty(),
+      hopLimit: Int = Translator.DEFAULT_HOP_LIMIT): WalkerContext[T, P] = {
+    new WalkerContext(dsl, expressionTypes, procedures, parameters, statistics, hopLimit)
+  }
+
+  /**
+    * Copies maps and lists of a parameter value, so a translation that depends on it
+    * is not affected when the caller modifies the value afterwards.
+    */
+  private def snapshot(value: Any): Any = value match {
+    case map: util.Map[_, _] =>
+      val copy = new util.LinkedHashMap[Any, Any](map.size * 4 / 3 + 1)
+      map.asScala.foreach { case (k, v) => copy.put(k, snapshot(v)) }
+      copy
+    case list: util.List[_] =>
+      val copy = new util.ArrayList[Any](list.size)
+      list.asScala.foreach(v => copy.add(snapshot(v)))
+      copy
+    case _ => value
   }
 }
 
@@ -39,12 +60,16 @@ object WalkerContext {
   * @param expressionTypes expression Cypher types
   * @param procedures      registered procedure context
   * @param parameters      Cypher query parameters
+  * @param statistics      target graph statistics
+  * @param hopLimit        maximum number of hops for unbounded variable-length relationships
   */
 sealed class WalkerContext[T, P](
     val dsl: Translator[T, P],
     val expressionTypes: Map[Expression, CypherType],
     val procedures: ProcedureContext,
-    private val parameters: Map[String, Any]) {
+    private val parameters: Map[String, Any],
+    val statistics: GraphStatistics,
+    val hopLimit: Int) {
 
   def parameter(name: String): Object = {
     val value = parameters.get(name).orNull
@@ -53,7 +78,9 @@ sealed class WalkerContext[T, P](
   }
 
   def inlineParameter[R](name: String, klass: Class[R]): R = {
-    val value = parameters.get(name).orNull
+    val snapshot = parameters.get(name).map(WalkerContext.snapshot)
+    inlinedParameters.put(name, snapshot)
+    val value = snapshot.orNull
     if (klass.isInstance(value)) {
       value.asInstanceOf[R]
     } else {
@@ -62,9 +89,22 @@ sealed class WalkerContext[T, P](
   }
 
   def parameterDefined(name: String): Boolean = {
+    inlinedParameters.put(name, parameters.get(name).map(WalkerContext.snapshot))
     parameters.contains(name)
   }
 
+  private var inlinedParameters = mutable.LinkedHashMap.empty[String, Option[Any]]
+
+  /**
+    * Returns parameters that affected the translation by value,
+    * i.e. were inlined or checked for presence while walking.
+    *
+    * @return parameter values by name, [[None]] for absent parameters
+    */
+  def parameterDependencies: Map[String, Option[Any]] = {
+    inlinedParameters.toMap
+  }
+
   def unsupported(description: String, node: Any): Nothing = {
     throw new UnsupportedOperationException(s"Unsupported $description: $node")
   }
@@ -104,6 +144,16 @@ sealed class WalkerContext[T, P](
     }
   }
 
+  /**
+    * Returns true if this alias is already bound in the current scope.
+    *
+    * @param name alias
+    * @return true, if the alias exists, false otherwise
+    */
+  def isAliased(name: String): Boolean = {
+    referencedAliases.contains(name)
+  }
+
   def clearAliases() = {
     referencedAliases.clear()
   }
@@ -115,10 +165,11 @@ sealed class WalkerContext[T, P](
   }
 
   def copy(): WalkerContext[T, P] = {
-    val result = WalkerContext(dsl, expressionTypes, procedures, parameters)
+    val result = WalkerContext(dsl, expressionTypes, procedures, parameters, statistics, hopLimit)
     result.firstStatement = firstStatement
     result.referencedAliases ++= referencedAliases
     result.nameGenerator = nameGenerator
+    result.inlinedParameters = inlinedParameters
     result
   }
 }
@@ -37,7 +37,7 @@ private object Parser {
   def string[_: P]: P[String] = P("'" ~ CharsWhile(_ != '\'', min = 0).! ~ "'")
   def `null`[_: P]: P[Any] = P(StringIn("null")).map(_ => null)
   def bool[_: P]: P[Boolean] = P(StringIn("true", "false").!).map(_.toBoolean)
-  def number[_: P]: P[Long] = P(CharIn("0-9").!).map(_.toLong)
+  def number[_: P]: P[Long] = P(CharIn("0-9").rep(1).!).map(_.toLong)
   def any[_: P]: P[Any] = P(string | bool | `null` | number)
 
   def ord[_: P]: P[Order] = P(StringIn("incr", "decr", "shuffle").!).map(Order.valueOf)
@@ -67,7 +67,10 @@ private object Parser {
   def aggregate[_: P]: P[GremlinStep] = P("aggregate(" ~ string ~ ")").map(Aggregate)
   def and[_: P]: P[GremlinStep] = P("and(" ~/ traversal.rep(sep = ",") ~ ")").map(n => And(n: _*))
   def as[_: P]: P[GremlinStep] = P("as(" ~ string ~ ")").map(As)
-  def barrier[_: P]: P[GremlinStep] = P("barrier()").map(_ => Barrier)
+  def barrier[_: P]: P[GremlinStep] = P("barrier(" ~ number.? ~ ")").map {
+    case Some(n) => BarrierSize(n.intValue())
+    case None    => Barrier
+  }
   def bothE[_: P]: P[GremlinStep] = P("bothE(" ~ string.rep(sep = ",") ~ ")").map(n => BothE(n: _*))
   def by[_: P]: P[GremlinStep] = P("by(" ~/ traversal ~ ",".? ~ ord.? ~ ")").map(n => By(n._1, n._2))
   def cap[_: P]: P[GremlinStep] = P("cap(" ~/ string ~ ")").map(Cap)
@@ -98,6 +98,8 @@ sealed class TranslationWriter[T, P] private (translator: Translator[T, P], para
           g.as(stepLabel)
         case Barrier =>
           g.barrier()
+        case BarrierSize(maxBarrierSize) =>
+          g.barrier(maxBarrierSize)
         case BothE(edgeLabels @ _*) =>
           g.bothE(edgeLabels: _*)
         case By(traversal, order) =>
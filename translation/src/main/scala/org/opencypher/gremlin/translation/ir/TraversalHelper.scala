@@ -53,6 +53,28 @@ object TraversalHelper {
     }
   }
 
+  /**
+    * Counts steps in top-level and all nested traversals.
+    *
+    * @param steps top-level traversal
+    * @return number of steps
+    */
+  def stepCount(steps: Seq[GremlinStep]): Int = {
+    foldTraversals(0)((acc, localSteps) => acc + localSteps.size)(steps)
+  }
+
+  /**
+    * Collects types of steps in top-level and all nested traversals.
+    *
+    * @param steps top-level traversal
+    * @return set of step classes
+    */
+  def stepTypes(steps: Seq[GremlinStep]): Set[Class[_ <: GremlinStep]] = {
+    foldTraversals(Set.empty[Class[_ <: GremlinStep]])({ (acc, localSteps) =>
+      acc ++ localSteps.map(_.getClass)
+    })(steps)
+  }
+
   /**
     * Finds matching parts of an IR sequence and maps occurrences.
     *
@@ -120,6 +142,18 @@ object TraversalHelper {
     replaceAcc(Nil, steps)
   }
 
+  /**
+    * Applies a rewrite repeatedly until the IR sequence no longer changes.
+    *
+    * @param f     rewrite that eventually stops changing its input
+    * @param steps IR sequence
+    * @return rewritten IR sequence
+    */
+  @tailrec def fixedPoint(f: Seq[GremlinStep] => Seq[GremlinStep])(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
+    val rewritten = f(steps)
+    if (rewritten == steps) steps else fixedPoint(f)(rewritten)
+  }
+
   /**
     * Finds matching steps in the IR sequence and splits the sequence in segments,
     * with each matching step marking the end of a segment.
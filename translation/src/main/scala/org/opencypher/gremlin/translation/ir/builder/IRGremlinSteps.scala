@@ -78,6 +78,11 @@ class IRGremlinSteps extends GremlinSteps[Seq[GremlinStep], GremlinPredicate] {
     this
   }
 
+  override def barrier(maxBarrierSize: Int): GremlinSteps[Seq[GremlinStep], GremlinPredicate] = {
+    buf += BarrierSize(maxBarrierSize)
+    this
+  }
+
   override def bothE(edgeLabels: String*): GremlinSteps[Seq[GremlinStep], GremlinPredicate] = {
     buf += BothE(edgeLabels: _*)
     this
@@ -67,6 +67,8 @@ case class As(stepLabel: String) extends GremlinStep
 
 case object Barrier extends GremlinStep
 
+case class BarrierSize(maxBarrierSize: Int) extends GremlinStep
+
 case class BothE(edgeLabels: String*) extends GremlinStep
 
 case class By(traversal: Seq[GremlinStep], order: Option[TraversalOrder] = None) extends GremlinStep {
@@ -32,8 +32,7 @@ object CosmosDbFlavor extends GremlinRewriter {
       rewriteChoose(_),
       rewriteSkip(_),
       removeFromTo(_),
-      replaceSelectValues(_),
-      replaceSelectValues(_),
+      fixedPoint(replaceSelectValues)(_),
       stringIds(_),
       neqOnDiff(_),
       rewriteLoopsInVarLength(_),
@@ -132,7 +131,7 @@ object CosmosDbFlavor extends GremlinRewriter {
 
   private def limit0Workaround(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
     replace({
-      case Barrier :: Limit(0) :: rest =>
+      case (Barrier | BarrierSize(_) | Count) :: Limit(0) :: rest =>
         SelectK(Tokens.NONEXISTENT) :: rest
     })(steps)
   }
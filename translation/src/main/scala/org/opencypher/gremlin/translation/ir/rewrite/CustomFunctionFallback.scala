@@ -20,7 +20,7 @@ import org.opencypher.gremlin.translation.Tokens._
 import org.opencypher.gremlin.translation.exception.CypherExceptions
 import org.opencypher.gremlin.translation.ir.TraversalHelper._
 import org.opencypher.gremlin.translation.ir.model._
-import org.opencypher.gremlin.traversal.CustomFunction.{cypherException, cypherPlus, cypherProperties, cypherSize}
+import org.opencypher.gremlin.traversal.CustomFunction._
 
 /**
   * Replaces Custom Functions with "The Best We Could Do" Gremlin native alternatives
@@ -30,6 +30,9 @@ object CustomFunctionFallback extends GremlinRewriter {
     CustomFunctionFallback +: rewriters
   }
 
+  private val plusFunctions = Set(cypherPlus(), cypherFloatPlus(), cypherStringPlus()).map(_.getName)
+  private val sizeFunctions = Set(cypherSize(), cypherStringSize()).map(_.getName)
+
   override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
 
     mapTraversals(replace({
@@ -37,10 +40,10 @@ object CustomFunctionFallback extends GremlinRewriter {
         val text = CypherExceptions.messageByName(typ)
         Path :: From(text) :: rest
 
-      case SelectC(values) :: MapF(function) :: rest if function.getName == cypherPlus().getName =>
+      case SelectC(values) :: MapF(function) :: rest if plusFunctions.contains(function.getName) =>
         SelectC(values) :: Local(Unfold :: ChooseP2(Neq(NULL), Sum :: Nil) :: Nil) :: rest
 
-      case MapF(function) :: rest if function.getName == cypherSize().getName =>
+      case MapF(function) :: rest if sizeFunctions.contains(function.getName) =>
         CountS(local) :: rest
 
       case MapF(function) :: rest if function.getName == cypherProperties().getName =>
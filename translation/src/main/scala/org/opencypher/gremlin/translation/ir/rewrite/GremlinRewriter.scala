@@ -17,4 +17,19 @@ package org.opencypher.gremlin.translation.ir.rewrite
 
 import org.opencypher.gremlin.translation.ir.model.GremlinStep
 
-trait GremlinRewriter extends (Seq[GremlinStep] => Seq[GremlinStep])
+trait GremlinRewriter extends (Seq[GremlinStep] => Seq[GremlinStep]) {
+
+  /**
+    * Step types this rewriter matches on.
+    * The rewriter is skipped if none of them occur in the IR.
+    * Empty set means the rewriter is always applied.
+    */
+  def triggers: Set[Class[_ <: GremlinStep]] = Set.empty
+
+  /**
+    * Whether the rewriter should be applied again
+    * after the IR is changed by subsequent rewriters.
+    * Such rewriters are expected to be idempotent.
+    */
+  def reapplyOnChange: Boolean = false
+}
@@ -28,6 +28,8 @@ import scala.collection.mutable
   * to fold generated `has` steps into the adjacent vertex step.
   */
 object GroupStepFilters extends GremlinRewriter {
+  override val triggers: Set[Class[_ <: GremlinStep]] = Set(classOf[WhereT])
+
   override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
     split(AfterStep, {
       case FlatMapT(Project(_*) :: _) => true
@@ -102,6 +104,9 @@ object GroupStepFilters extends GremlinRewriter {
       case ChooseT3(Seq(Constant(value)), _, _) :: Is(_) :: As(_) :: SelectK(stepLabel) :: ChooseP2(_, Seq(Id)) :: Is(_) :: WhereP(
             _: Within) :: Nil =>
         (stepLabel, HasP(T.id.getAccessor, Within(value))) :: Nil
+      case ChooseT3(Seq(Constant(value)), _, _) :: Is(_) :: As(_) :: SelectK(stepLabel) :: Values(propertyKey) :: WhereP(
+            _: Eq) :: Nil =>
+        (stepLabel, HasP(propertyKey, Eq(value))) :: Nil
       case SelectK(stepLabel) :: rest if rest.forall(_.isInstanceOf[HasLabel]) =>
         rest.map((stepLabel, _))
       case _ =>
@@ -122,6 +127,9 @@ object GroupStepFilters extends GremlinRewriter {
       case ChooseT3(Seq(Constant(_)), _, _) :: Is(_) :: As(_) :: SelectK(alias) :: ChooseP2(_, Seq(Id)) :: Is(_) :: WhereP(
             _: Within) :: Nil if aliases.contains(alias) =>
         None
+      case ChooseT3(Seq(Constant(_)), _, _) :: Is(_) :: As(_) :: SelectK(alias) :: Values(_) :: WhereP(_: Eq) :: Nil
+          if aliases.contains(alias) =>
+        None
       case SelectK(alias) :: rest if aliases.contains(alias) && rest.forall(_.isInstanceOf[HasLabel]) =>
         None
       case other =>
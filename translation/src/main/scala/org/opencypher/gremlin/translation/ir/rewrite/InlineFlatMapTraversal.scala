@@ -23,6 +23,8 @@ import org.opencypher.gremlin.translation.ir.model._
   * with just the traversal for the same effect.
   */
 object InlineFlatMapTraversal extends GremlinRewriter {
+  override val triggers: Set[Class[_ <: GremlinStep]] = Set(classOf[FlatMapT])
+
   override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
     mapTraversals(traversal =>
       traversal.flatMap {
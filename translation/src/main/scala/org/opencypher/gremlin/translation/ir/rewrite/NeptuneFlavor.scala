@@ -92,7 +92,7 @@ object NeptuneFlavor extends GremlinRewriter {
 
   private def limit0Workaround(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
     replace({
-      case Barrier :: Limit(0) :: rest =>
+      case (Barrier | BarrierSize(_) | Count) :: Limit(0) :: rest =>
         SelectK(NONEXISTENT) :: rest
     })(steps)
   }
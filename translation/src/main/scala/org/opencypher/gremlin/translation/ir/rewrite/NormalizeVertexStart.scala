@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.ir.rewrite
+
+import org.apache.tinkerpop.gremlin.structure.T
+import org.opencypher.gremlin.translation.ir.TraversalHelper._
+import org.opencypher.gremlin.translation.ir.model._
+
+/**
+  * This rewriter normalizes filters that directly follow a `V()` step,
+  * so that every pattern starts as `V().has(T.id, ...).hasLabel(...).has(key, eq(value))`.
+  * Id lookups and label/equality filters are placed first,
+  * where graph-centric indices of Gremlin providers can be applied to them
+  * (e.g. `V().has(T.id, eq(x))` is folded to `V(x)`).
+  * Should be applied after [[GroupStepFilters]].
+  */
+object NormalizeVertexStart extends GremlinRewriter {
+  override val triggers: Set[Class[_ <: GremlinStep]] = Set(Vertex.getClass)
+
+  override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
+    mapTraversals(replace({
+      case Vertex :: As(stepLabel) :: rest => Vertex :: As(stepLabel) :: normalize(rest)
+      case Vertex :: rest                  => Vertex :: normalize(rest)
+    }))(steps)
+  }
+
+  private def normalize(steps: Seq[GremlinStep]): List[GremlinStep] = {
+    val filters = steps.takeWhile {
+      case _: HasLabel | _: HasP => true
+      case _                     => false
+    }
+    val rest = steps.drop(filters.size)
+    val sortedFilters = filters.zipWithIndex.sortBy {
+      case (step, index) => (priority(step), index)
+    }.map(_._1)
+    (sortedFilters ++ rest).toList
+  }
+
+  private def priority(step: GremlinStep): Int = {
+    step match {
+      case HasP(propertyKey, _) if propertyKey == T.id.getAccessor => 0
+      case _: HasLabel                                             => 1
+      case HasP(_, _: Eq)                                          => 2
+      case _                                                       => 3
+    }
+  }
+}
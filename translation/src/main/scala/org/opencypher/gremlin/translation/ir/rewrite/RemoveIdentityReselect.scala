@@ -25,6 +25,8 @@ import org.opencypher.gremlin.translation.ir.model._
   * This rewrite also enables some cases of [[RemoveUnusedAliases]] rewrites.
   */
 object RemoveIdentityReselect extends GremlinRewriter {
+  override val triggers: Set[Class[_ <: GremlinStep]] = Set(classOf[As])
+
   override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
     mapTraversals(replace({
       case As(stepLabel) :: rest =>
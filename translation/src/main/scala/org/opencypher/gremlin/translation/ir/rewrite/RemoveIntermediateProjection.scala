@@ -22,6 +22,8 @@ import org.opencypher.gremlin.translation.ir.model._
   * This rule removes intermediate projection in case it does not have any logic, and followed by final projection
   */
 object RemoveIntermediateProjection extends GremlinRewriter {
+  override val triggers: Set[Class[_ <: GremlinStep]] = Set(classOf[Project])
+
 
   override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
     val traversals = split(BeforeStep, {
@@ -26,6 +26,8 @@ import scala.collection.JavaConverters._
   * This rule replaces multiple sequential step aliases with single one, and updates traversal accordingly
   */
 object RemoveMultipleAliases extends GremlinRewriter {
+  override val triggers: Set[Class[_ <: GremlinStep]] = Set(classOf[As])
+
 
   override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
     val aliasCount = countInTraversals({
@@ -30,6 +30,10 @@ import scala.collection.SortedMap
   * and allows bulking by keeping traversers compact.
   */
 object RemoveUnusedAliases extends GremlinRewriter {
+  override val triggers: Set[Class[_ <: GremlinStep]] = Set(classOf[As])
+
+  override val reapplyOnChange: Boolean = true
+
   override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
     val selected = foldTraversals(SortedMap.empty[String, Int])((acc, localSteps) => {
       def increment(keys: String*): SortedMap[String, Int] = {
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.ir.rewrite
+
+import org.opencypher.gremlin.translation.TranslationListener
+import org.opencypher.gremlin.translation.ir.TraversalHelper._
+import org.opencypher.gremlin.translation.ir.model.GremlinStep
+
+import scala.annotation.tailrec
+
+/**
+  * Applies rewriters of a translator flavor in order.
+  *
+  * A rewriter is skipped if none of its [[GremlinRewriter#triggers]] occur in the IR.
+  * After the IR is changed, rewriters that already ran and are marked with [[GremlinRewriter#reapplyOnChange]]
+  * are applied again until the IR no longer changes.
+  */
+object RewriterScheduler {
+  private val maxReapplyPasses = 10
+
+  /**
+    * Rewrites the IR.
+    *
+    * @param rewriters rewriters to apply
+    * @param listener  receives rewriter timings
+    * @param steps     IR sequence
+    * @return rewritten IR sequence
+    */
+  def apply(rewriters: Seq[GremlinRewriter], listener: TranslationListener)(
+      steps: Seq[GremlinStep]): Seq[GremlinStep] = {
+    val state = new State(steps, listener)
+    rewriters.foldLeft(Seq.empty[GremlinRewriter]) { (reapplied, rewriter) =>
+      if (state.run(rewriter)) {
+        reapply(state, reapplied.filterNot(_ eq rewriter), 0)
+      }
+      if (rewriter.reapplyOnChange && !reapplied.contains(rewriter)) reapplied :+ rewriter else reapplied
+    }
+    state.steps
+  }
+
+  @tailrec private def reapply(state: State, rewriters: Seq[GremlinRewriter], pass: Int): Unit = {
+    if (rewriters.nonEmpty && pass < maxReapplyPasses) {
+      val changed = rewriters.map(state.run).contains(true)
+      if (changed && rewriters.size > 1) {
+        reapply(state, rewriters, pass + 1)
+      }
+    }
+  }
+
+  private class State(var steps: Seq[GremlinStep], listener: TranslationListener) {
+    private var size = stepCount(steps)
+    private var types: Option[Set[Class[_ <: GremlinStep]]] = None
+
+    /**
+      * Applies a rewriter unless it is not triggered by the current IR.
+      *
+      * @return true if the IR was changed
+      */
+    def run(rewriter: GremlinRewriter): Boolean = {
+      val name = rewriter.getClass.getSimpleName.stripSuffix("$")
+      if (!isTriggered(rewriter)) {
+        listener.rewriterSkipped(name)
+        return false
+      }
+
+      val start = System.nanoTime()
+      val rewritten = rewriter(steps)
+      val nanos = System.nanoTime() - start
+      val changed = !(rewritten eq steps) && rewritten != steps
+      val rewrittenSize = if (changed) stepCount(rewritten) else size
+      listener.rewriterCompleted(name, nanos, size, rewrittenSize)
+
+      if (changed) {
+        steps = rewritten
+        size = rewrittenSize
+        types = None
+      }
+      changed
+    }
+
+    private def isTriggered(rewriter: GremlinRewriter): Boolean = {
+      val triggers = rewriter.triggers
+      triggers.isEmpty || {
+        val present = types.getOrElse(stepTypes(steps))
+        types = Some(present)
+        triggers.exists(present.contains)
+      }
+    }
+  }
+}
@@ -16,7 +16,7 @@
 package org.opencypher.gremlin.translation.ir.rewrite
 
 import org.opencypher.gremlin.translation.Tokens
-import org.opencypher.gremlin.translation.Tokens.{DELETE, DELETE_ONCE, DETACH_DELETE, NULL}
+import org.opencypher.gremlin.translation.Tokens.{DELETE, DETACH_DELETE, NULL}
 import org.opencypher.gremlin.translation.ir.TraversalHelper._
 import org.opencypher.gremlin.translation.ir.model._
 
@@ -24,6 +24,8 @@ import org.opencypher.gremlin.translation.ir.model._
   * Removes surplus actions if `delete` or `detach delete` is not used in query
   */
 object SimplifyDelete extends GremlinRewriter {
+  override val triggers: Set[Class[_ <: GremlinStep]] = Set(classOf[SideEffect], classOf[Cap])
+
   override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
     Seq(
       removeSurplus(_),
@@ -35,16 +37,13 @@ object SimplifyDelete extends GremlinRewriter {
 
   def simplifyDetachDelete(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
     steps match {
-      case Vertex :: As(n1) :: Barrier ::
-            SideEffect(SelectK(n2) :: Aggregate(DETACH_DELETE) :: Nil) ::
-            SideEffect(Limit(0) :: Aggregate(DELETE_ONCE) :: Nil) ::
-            Barrier ::
-            SideEffect(
-            Coalesce(
-              Cap(DELETE_ONCE) :: Unfold :: Nil,
-              Constant(true) :: Aggregate(DELETE_ONCE) :: Cap(DETACH_DELETE) :: Unfold :: Dedup() :: Is(
-                Neq(Tokens.NULL)) :: Drop :: Nil) :: Nil) ::
-            Barrier :: Limit(0) :: Nil =>
+      case Vertex :: As(n1) :: BarrierSize(_) ::
+            SideEffect(SelectK(n2) :: Is(Neq(Tokens.NULL)) :: Drop :: Nil) ::
+            Barrier :: Limit(0) :: Nil if n1 == n2 =>
+        Vertex :: Drop :: Nil
+      case Vertex :: As(n1) :: BarrierSize(_) ::
+            SideEffect(SelectK(n2) :: Drop :: Nil) ::
+            Barrier :: Limit(0) :: Nil if n1 == n2 =>
         Vertex :: Drop :: Nil
       case _ => steps
     }
@@ -22,6 +22,8 @@ import org.opencypher.gremlin.translation.ir.model._
   * can be simplified to a single graph step.
   */
 object SimplifyEdgeTraversal extends GremlinRewriter {
+  override val triggers: Set[Class[_ <: GremlinStep]] = Set(classOf[InE], classOf[OutE])
+
 
   override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
     val replacement = steps match {
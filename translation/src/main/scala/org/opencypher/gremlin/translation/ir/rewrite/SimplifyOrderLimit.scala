@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.ir.rewrite
+
+import org.apache.tinkerpop.gremlin.process.traversal.Scope
+import org.opencypher.gremlin.translation.ir.TraversalHelper._
+import org.opencypher.gremlin.translation.ir.model._
+
+/**
+  * This rule merges `skip` and `limit` steps into a single `range` step.
+  * When they follow an ordering, the ordering is then bounded by one step
+  * and can be executed as a top-K selection instead of a full sort.
+  */
+object SimplifyOrderLimit extends GremlinRewriter {
+  override val triggers: Set[Class[_ <: GremlinStep]] = Set(classOf[Skip])
+
+  override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
+    mapTraversals(replace({
+      case Skip(skip) :: Limit(limit) :: rest if limit <= Long.MaxValue - skip =>
+        Range(Scope.global, skip, skip + limit) :: rest
+    }))(steps)
+  }
+}
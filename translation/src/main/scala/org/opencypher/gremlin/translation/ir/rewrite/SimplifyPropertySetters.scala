@@ -26,6 +26,8 @@ import org.opencypher.gremlin.translation.ir.model._
   * to avoid empty traversal checks and set or unset the property directly.
   */
 object SimplifyPropertySetters extends GremlinRewriter {
+  override val triggers: Set[Class[_ <: GremlinStep]] = Set(classOf[PropertyT], classOf[PropertyTC], classOf[ChooseT3])
+
 
   override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
     mapTraversals(replace({
@@ -24,6 +24,8 @@ import org.opencypher.gremlin.translation.ir.model._
   * can simply select the existing alias from the traversal.
   */
 object SimplifyRenamedAliases extends GremlinRewriter {
+  override val triggers: Set[Class[_ <: GremlinStep]] = Set(classOf[WhereT])
+
 
   override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
     split(AfterStep, {
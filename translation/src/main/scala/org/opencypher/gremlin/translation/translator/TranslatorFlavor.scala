@@ -43,6 +43,7 @@ object TranslatorFlavor {
       SimplifyRenamedAliases,
       RemoveMultipleAliases,
       GroupStepFilters,
+      NormalizeVertexStart,
       RemoveIntermediateProjection,
       SimplifySingleProjections,
       RemoveUselessNullChecks,
@@ -50,8 +51,8 @@ object TranslatorFlavor {
       RemoveUnusedAliases,
       SimplifyEdgeTraversal,
       SimplifyDelete,
-      RemoveUnusedAliases,
-      RemoveUselessSteps
+      RemoveUselessSteps,
+      SimplifyOrderLimit
     ),
     postConditions = Seq(
       NoEmptyTraversals
@@ -50,6 +50,7 @@ private class CallWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T,
         val arguments = argumentOption.getOrElse {
           throw new IllegalArgumentException(s"In-query call with implicit arguments: $qualifiedName")
         }
+        procedures.validateArguments(qualifiedName, argumentTypes(arguments))
         val resultsMapName = context.generateName()
 
         g.flatMap(asList(arguments, context))
@@ -92,6 +93,7 @@ private class CallWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T,
           }
           argumentNames.map(Parameter(_, AnyType.instance)(InputPosition.NONE))
         }
+        procedures.validateArguments(qualifiedName, argumentTypes(arguments))
 
         g.flatMap(asList(arguments, context))
           .map(procedures.procedureCall(qualifiedName))
@@ -108,6 +110,18 @@ private class CallWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T,
     }
   }
 
+  private def argumentTypes(arguments: Seq[Expression]): java.util.List[Class[_]] = {
+    arguments.map { argument =>
+      val argumentType: Class[_] = argument match {
+        case _: NumberLiteral  => classOf[Number]
+        case _: StringLiteral  => classOf[String]
+        case _: BooleanLiteral => classOf[java.lang.Boolean]
+        case _                 => null
+      }
+      argumentType
+    }.asJava
+  }
+
   private def resultsAsPairs(results: Option[ProcedureResult]): Seq[(String, String)] = {
     results.map {
       case ProcedureResult(items, _) =>
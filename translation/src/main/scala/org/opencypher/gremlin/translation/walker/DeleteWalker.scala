@@ -21,7 +21,7 @@ import org.opencypher.gremlin.translation.exception.CypherExceptions.DELETE_CONN
 import org.opencypher.gremlin.translation.walker.NodeUtils.runtimeValidation
 import org.opencypher.gremlin.translation.{GremlinSteps, Tokens}
 import org.opencypher.v9_0.ast._
-import org.opencypher.v9_0.expressions.{Expression, Variable}
+import org.opencypher.v9_0.expressions._
 import org.opencypher.v9_0.util.symbols.{AnyType, NodeType, PathType, RelationshipType}
 
 object DeleteWalker {
@@ -32,6 +32,44 @@ object DeleteWalker {
   def deleteAggregated[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P]): Unit = {
     new DeleteWalker(context, g).dropAggregated()
   }
+
+  def walkStreaming[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P], node: Delete): Unit = {
+    new DeleteWalker(context, g).walkStreaming(node)
+  }
+
+  /**
+    * Checks if the `DELETE` clause of a query can drop elements as rows arrive,
+    * without collecting them for the whole query.
+    * This is the case for `MATCH (n) [WHERE ...] DETACH DELETE n [RETURN ...]`,
+    * where dropping an element cannot change which other rows are matched.
+    *
+    * @param context walker context with expression types
+    * @param clauses query clauses
+    * @return true, if the `DELETE` clause can be streamed
+    */
+  def isStreaming[T, P](context: WalkerContext[T, P], clauses: Seq[Clause]): Boolean = {
+    clauses match {
+      case Seq(Match(false, Pattern(Seq(EveryPath(_: NodePattern))), _, where), Delete(expressions, true), rest @ _*)
+          if rest.forall(_.isInstanceOf[Return]) && !where.exists(hasPatterns) =>
+        expressions.forall { expr =>
+          context.expressionTypes.get(expr) match {
+            case Some(_: PathType)                                                => false
+            case Some(_: NodeType) | Some(_: RelationshipType) | Some(_: AnyType) => true
+            case _                                                                => false
+          }
+        }
+      case _ =>
+        false
+    }
+  }
+
+  private def hasPatterns(where: Where): Boolean = {
+    where.treeExists {
+      case _: PatternExpression | _: PatternComprehension => true
+    }
+  }
+
+  private val streamingBatchSize = 1000
 }
 
 class DeleteWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P]) {
@@ -75,6 +113,26 @@ class DeleteWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P]) {
     }
   }
 
+  /**
+    * Drops elements in batches of rows, bounding the number of rows held at once.
+    * Elements matched by several rows are dropped more than once,
+    * which graph implementations treat as a no-op.
+    */
+  def walkStreaming(node: Delete): Unit = {
+    val p = context.dsl.predicates()
+    val Delete(expressions, _) = node
+
+    g.barrier(DeleteWalker.streamingBatchSize)
+    expressions.foreach { expr =>
+      val expressionTraversal = ExpressionWalker.walkLocal(context, g, expr)
+      context.expressionTypes.get(expr) match {
+        case Some(_: AnyType) => expressionTraversal.unfold()
+        case _                =>
+      }
+      g.sideEffect(expressionTraversal.is(p.neq(Tokens.NULL)).drop())
+    }
+  }
+
   def dropAggregated(): Unit = {
     val p = context.dsl.predicates()
 
@@ -173,6 +173,11 @@ private class ExpressionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
             listConcat(lhs, rhs)
           case (_: IntegerType, _: IntegerType) =>
             math(lhs, rhs, "+")
+          case (_: IntegerType | _: FloatType, _: IntegerType | _: FloatType) =>
+            asList(lhs, rhs).map(CustomFunction.cypherFloatPlus())
+          case (_: StringType, _: StringType | _: IntegerType | _: FloatType) |
+              (_: IntegerType | _: FloatType, _: StringType) =>
+            asList(lhs, rhs).map(CustomFunction.cypherStringPlus())
           case _ =>
             asList(lhs, rhs).map(CustomFunction.cypherPlus())
         }
@@ -191,6 +196,8 @@ private class ExpressionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
                 __.range(Scope.local, l.value, l.value + 1),
                 context
               ))
+          case (_: ListType, _) if typeOf(idx).isInstanceOf[IntegerType] =>
+            asList(expr, idx).map(CustomFunction.cypherListIndex())
           case _ =>
             asList(expr, idx).map(CustomFunction.cypherContainerIndex())
         }
@@ -248,10 +255,10 @@ private class ExpressionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
           case "trim"             => traversals.head.map(CustomFunction.cypherTrim())
           case "toupper"          => traversals.head.map(CustomFunction.cypherToUpper())
           case "tolower"          => traversals.head.map(CustomFunction.cypherToLower())
-          case "toboolean"        => traversals.head.map(CustomFunction.cypherToBoolean())
-          case "tofloat"          => traversals.head.map(CustomFunction.cypherToFloat())
-          case "tointeger"        => traversals.head.map(CustomFunction.cypherToInteger())
-          case "tostring"         => traversals.head.map(CustomFunction.cypherToString())
+          case "toboolean"        => toBoolean(args.head, traversals.head)
+          case "tofloat"          => toFloat(args.head, traversals.head)
+          case "tointeger"        => toInteger(args.head, traversals.head)
+          case "tostring"         => toStringValue(args.head, traversals.head)
           case "gremlin"          => injectGremlin(args)
           case _ =>
             throw new SyntaxException(s"Unknown function '$fnName'")
@@ -577,10 +584,43 @@ private class ExpressionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
     typ match {
       case ListType(_: PathType) => __.count()
       case _: ListType           => __.count(Scope.local)
+      case _: StringType         => __.map(CustomFunction.cypherStringSize())
       case _                     => __.map(CustomFunction.cypherSize())
     }
   }
 
+  // Type conversions are skipped or specialized when the argument type is known at translation time
+
+  private def toBoolean(arg: Expression, traversal: GremlinSteps[T, P]): GremlinSteps[T, P] = {
+    typeOf(arg) match {
+      case _: BooleanType => traversal
+      case _              => traversal.map(CustomFunction.cypherToBoolean())
+    }
+  }
+
+  private def toFloat(arg: Expression, traversal: GremlinSteps[T, P]): GremlinSteps[T, P] = {
+    typeOf(arg) match {
+      case _: FloatType                   => traversal
+      case _: IntegerType | _: NumberType => traversal.map(CustomFunction.cypherNumberToFloat())
+      case _                              => traversal.map(CustomFunction.cypherToFloat())
+    }
+  }
+
+  private def toInteger(arg: Expression, traversal: GremlinSteps[T, P]): GremlinSteps[T, P] = {
+    typeOf(arg) match {
+      case _: IntegerType               => traversal
+      case _: FloatType | _: NumberType => traversal.map(CustomFunction.cypherNumberToInteger())
+      case _                            => traversal.map(CustomFunction.cypherToInteger())
+    }
+  }
+
+  private def toStringValue(arg: Expression, traversal: GremlinSteps[T, P]): GremlinSteps[T, P] = {
+    typeOf(arg) match {
+      case _: StringType => traversal
+      case _             => traversal.map(CustomFunction.cypherToString())
+    }
+  }
+
   private def caseExpression(
       maybeExpr: Option[Expression],
       alternatives: IndexedSeq[(Expression, Expression)],
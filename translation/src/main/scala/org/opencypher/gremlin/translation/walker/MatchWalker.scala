@@ -68,7 +68,17 @@ private class MatchWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T,
   def walkPatternParts(patternParts: Seq[PatternPart], whereOption: Option[Where]): Unit = {
     patternParts.foreach {
       case EveryPath(patternElement) =>
-        PatternWalker.walk(context, g, patternElement)
+        val planned = PatternPlanner.plan(context, patternElement, whereOption)
+        boundStart(planned.head) match {
+          case Some(name) =>
+            // continue from the bound node instead of scanning all vertices for it
+            val p = context.dsl.predicates()
+            g.where(g.start().select(name).is(p.neq(NULL)))
+            PatternWalker.walk(context, g, planned.head, startNewTraversal = false)
+          case None =>
+            PatternWalker.walk(context, g, planned.head)
+        }
+        planned.tail.foreach(PatternWalker.walk(context, g, _, startNewTraversal = false))
       case NamedPatternPart(Variable(pathName), EveryPath(patternElement)) =>
         PatternWalker.walk(context, g, patternElement, Some(pathName))
         g.as(MATCH_END + pathName).path().from(Tokens.MATCH_START + pathName).as(pathName)
@@ -81,6 +91,13 @@ private class MatchWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T,
     reselectVarLengthPathRelationshipLists(patternParts)
   }
 
+  private def boundStart(element: PatternElement): Option[String] = {
+    flattenRelationshipChain(element).headOption match {
+      case Some(NodePattern(Some(Variable(name)), _, _, _)) if context.isAliased(name) => Some(name)
+      case _                                                                          => None
+    }
+  }
+
   private def reselectVarLengthPathRelationshipLists(patternParts: Seq[PatternPart]): Unit = {
     patternParts
       .flatMap(_.element.allVariables)
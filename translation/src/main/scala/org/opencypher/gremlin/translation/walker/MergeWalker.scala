@@ -25,6 +25,10 @@ import org.opencypher.v9_0.util.InputPosition.NONE
 /**
   * AST walker that handles translation
   * of the `MERGE` clause nodes in the Cypher AST.
+  *
+  * `MERGE` is translated as an upsert: `coalesce(match, create)`.
+  * The pattern is matched once per incoming row,
+  * and is only created when the match yields no results.
   */
 object MergeWalker {
   def walkClause[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P], node: Merge): Unit = {
@@ -54,6 +58,6 @@ private class MergeWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T,
       case OnCreate(action: SetClause) => SetWalker.walkClause(contextCreateG, createG, action)
     }
 
-    g.choose(matchG, matchG, createG)
+    g.coalesce(matchG, createG)
   }
 }
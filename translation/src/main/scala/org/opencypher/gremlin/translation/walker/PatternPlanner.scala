@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.walker
+
+import org.opencypher.gremlin.translation.context.WalkerContext
+import org.opencypher.gremlin.translation.walker.NodeUtils._
+import org.opencypher.v9_0.ast.Where
+import org.opencypher.v9_0.expressions._
+import org.opencypher.v9_0.util.ASTNode
+
+/**
+  * Chooses where to start matching a relationship chain.
+  * Patterns are walked from their first node,
+  * so a chain is reversed or split around its most selective node (the anchor),
+  * which is estimated from labels, property and id predicates,
+  * and optional [[org.opencypher.gremlin.translation.translator.GraphStatistics]].
+  */
+object PatternPlanner {
+  private val DefaultVertexCount = 1000000.0
+  private val LabelSelectivity = 0.1
+  private val PropertySelectivity = 0.1
+  private val IndexedPropertySelectivity = 0.001
+
+  /**
+    * Plans a pattern element.
+    * The first of the returned elements starts a new traversal,
+    * the following ones continue from their already matched first node.
+    *
+    * @param context     walker context
+    * @param element     pattern element
+    * @param whereOption filter of the pattern
+    * @return pattern elements to walk
+    */
+  def plan[T, P](
+      context: WalkerContext[T, P],
+      element: PatternElement,
+      whereOption: Option[Where]): Seq[PatternElement] = {
+    val chain = flattenRelationshipChain(element)
+    val plannable = chain.size > 1 && chain.forall {
+      case NodePattern(Some(_), _, _, _) => true
+      case r: RelationshipPattern        => r.length.isEmpty
+      case _                             => false
+    }
+    if (!plannable) {
+      return element :: Nil
+    }
+
+    val predicates = whereOption.map(where => conjuncts(where.expression)).getOrElse(Nil)
+    val estimates = chain.collect {
+      case node: NodePattern => estimate(context, node, predicates)
+    }
+    val anchor = estimates.indexOf(estimates.min) * 2
+    if (anchor == 0) {
+      return element :: Nil
+    }
+
+    val right = chain.drop(anchor)
+    val left = chain.take(anchor + 1).reverse.map {
+      case r: RelationshipPattern => r.copy(direction = r.direction.reversed)(r.position)
+      case n                      => n
+    }
+    if (right.size == 1) {
+      toChain(context, left) :: Nil
+    } else {
+      val anchorNode = left.head match {
+        case n: NodePattern => n.copy(labels = Seq.empty, properties = None)(n.position)
+      }
+      toChain(context, right) :: toChain(context, anchorNode +: left.tail) :: Nil
+    }
+  }
+
+  private def estimate[T, P](context: WalkerContext[T, P], node: NodePattern, predicates: Seq[Expression]): Double = {
+    val NodePattern(Some(Variable(name)), nodeLabels, properties, _) = node
+    if (context.isAliased(name) || predicates.exists(isIdPredicate(name, _))) {
+      return 1
+    }
+
+    val labels = nodeLabels.map(_.name) ++ predicates.flatMap {
+      case HasLabels(Variable(`name`), whereLabels) => whereLabels.map(_.name)
+      case _                                        => Nil
+    }
+    val keys = properties.toSeq.flatMap {
+      case MapExpression(items) => items.map(_._1.name)
+      case _                    => Nil
+    } ++ predicates.flatMap(equalityKey(name, _))
+
+    val statistics = context.statistics
+    val vertexCount = statistics.vertexCount()
+    val total = if (vertexCount.isPresent) vertexCount.getAsLong.toDouble else DefaultVertexCount
+    val labelled = labels.distinct.foldLeft(total) { (count, label) =>
+      val labelCount = statistics.labelCount(label)
+      math.min(count, if (labelCount.isPresent) labelCount.getAsLong.toDouble else total * LabelSelectivity)
+    }
+    keys.distinct.foldLeft(labelled) { (count, key) =>
+      count * (if (statistics.isIndexed(key)) IndexedPropertySelectivity else PropertySelectivity)
+    }
+  }
+
+  private def conjuncts(expression: Expression): Seq[Expression] = {
+    expression match {
+      case Ands(ands)    => ands.toSeq.flatMap(conjuncts)
+      case And(lhs, rhs) => conjuncts(lhs) ++ conjuncts(rhs)
+      case other         => other :: Nil
+    }
+  }
+
+  private def equalityKey(name: String, expression: Expression): Option[String] = {
+    expression match {
+      case Equals(Property(Variable(`name`), PropertyKeyName(key)), _) => Some(key)
+      case Equals(_, Property(Variable(`name`), PropertyKeyName(key))) => Some(key)
+      case _                                                           => None
+    }
+  }
+
+  private def isIdPredicate(name: String, expression: Expression): Boolean = {
+    expression match {
+      case Equals(lhs, rhs) => isId(name, lhs) || isId(name, rhs)
+      case In(lhs, _)       => isId(name, lhs)
+      case _                => false
+    }
+  }
+
+  private def isId(name: String, expression: Expression): Boolean = {
+    expression match {
+      case FunctionInvocation(_, FunctionName(fnName), _, Seq(Variable(`name`))) => fnName.toLowerCase == "id"
+      case _                                                                     => false
+    }
+  }
+
+  private def toChain[T, P](context: WalkerContext[T, P], chain: Seq[ASTNode]): PatternElement = {
+    val head: PatternElement = chain.head match {
+      case n: NodePattern => n
+      case n              => context.unsupported("pattern element", n)
+    }
+    chain.tail.grouped(2).foldLeft(head) { (left, pair) =>
+      pair match {
+        case Seq(r: RelationshipPattern, n: NodePattern) => RelationshipChain(left, r, n)(left.position)
+        case n                                           => context.unsupported("pattern element", n)
+      }
+    }
+  }
+}
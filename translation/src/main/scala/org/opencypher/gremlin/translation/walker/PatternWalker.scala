@@ -37,6 +37,14 @@ object PatternWalker {
       startNewTraversal: Boolean = true): Unit = {
     new PatternWalker(context, g).walk(node, pathName, startNewTraversal)
   }
+
+  /**
+    * Walks a pattern that is used as a predicate,
+    * i.e. only the existence of a match is relevant.
+    */
+  def walkExists[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P], node: PatternElement): Unit = {
+    new PatternWalker(context, g).walkExists(node)
+  }
 }
 
 class PatternWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P]) {
@@ -68,6 +76,65 @@ class PatternWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P]) {
     }
   }
 
+  def walkExists(node: PatternElement): Unit = {
+    flattenRelationshipChain(node) match {
+      case Vector(
+          NodePattern(Some(Variable(from)), Seq(), None, _),
+          RelationshipPattern(_, types, length, None, direction, _, _),
+          NodePattern(Some(Variable(to)), Seq(), None, _))
+          if context.isAliased(from) && context.isAliased(to) && reachabilityLimit(length).isDefined =>
+        val typeNames = types.map { case RelTypeName(relName) => relName }.distinct
+        walkReachability(from, to, typeNames, direction, reachabilityLimit(length).get)
+      case _ =>
+        walk(node, None, startNewTraversal = true)
+    }
+  }
+
+  /**
+    * Variable-length pattern between two bound nodes is matched by a breadth-first search
+    * from one end that visits every vertex at most once and stops at the first match,
+    * instead of enumerating all paths.
+    * Only applicable if any path of up to `limit` hops is a match (i.e. the lower bound is 1).
+    *
+    * `repeat` is depth-first in OLTP, so `barrier` completes each hop before the next one starts.
+    * Otherwise a vertex first reached by a longer path would be deduplicated,
+    * and not expanded further when a shorter path reaches it.
+    *
+    * The start vertex is not deduplicated, so an undirected hop may not go back over the edge just crossed.
+    * Otherwise `(a)-[*]-(a)` would match over a single relationship.
+    */
+  private def walkReachability(
+      from: String,
+      to: String,
+      typeNames: Seq[String],
+      direction: SemanticDirection,
+      limit: Int): Unit = {
+    val p = context.dsl.predicates()
+    val hopT = g.start()
+    g.select(from)
+    direction match {
+      case BOTH =>
+        val lastEdge = context.generateName()
+        g.as(lastEdge)
+        hopT.bothE(typeNames: _*).where(p.neq(lastEdge)).as(lastEdge).otherV()
+      case INCOMING => hopT.inE(typeNames: _*).outV()
+      case OUTGOING => hopT.outE(typeNames: _*).inV()
+    }
+    g.repeat(hopT.dedup().barrier())
+      .emit(__.where(p.isEq(to)))
+      .times(limit)
+      .where(p.isEq(to))
+      .limit(1)
+  }
+
+  private def reachabilityLimit(length: Option[Option[Range]]): Option[Int] = {
+    length match {
+      case Some(None | Some(Range(None | Some(UDIL("1")), None)))                          => Some(context.hopLimit)
+      case Some(Some(Range(None | Some(UDIL("1")), Some(UDIL(upper))))) if upper.toInt > 0 => Some(upper.toInt)
+      case _                                                                               => None
+    }
+  }
+
   private def walkNode(node: NodePattern): Unit = {
     val NodePattern(variableOption, labels, properties, _) = node
     val variable @ Variable(name) = variableOption
@@ -77,8 +144,6 @@ class PatternWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P]) {
     properties.map(hasProperties(variable, _)).foreach(g.flatMap)
   }
 
-  val traversalStepsHardLimit: Int = 10
-
   private def walkRelationship(pathName: Option[String], relationship: RelationshipPattern): Unit = {
     val RelationshipPattern(variableOption, types, length, properties, direction, _, _) = relationship
     val typeNames = types.map { case RelTypeName(relName) => relName }.distinct
@@ -114,14 +179,14 @@ class PatternWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P]) {
         // -[*..]->
         g.repeat(directionT)
           .emit()
-          .times(traversalStepsHardLimit)
+          .times(context.hopLimit)
       case Some(Some(range)) =>
         range match {
           case Range(Some(UDIL(lower)), None) =>
             // -[*m..]->
             g.emit(__.loops().is(p.gte(lower.toInt)))
               .repeat(directionT)
-              .times(traversalStepsHardLimit)
+              .times(context.hopLimit)
           case Range(None, Some(UDIL("0"))) =>
             // -[*..0]->
             g.limit(0)
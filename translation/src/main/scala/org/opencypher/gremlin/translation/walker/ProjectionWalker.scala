@@ -55,7 +55,18 @@ private class ProjectionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
       select: Seq[String],
       all: Map[String, GremlinSteps[T, P]],
       pivots: Map[String, GremlinSteps[T, P]],
-      aggregations: Map[String, GremlinSteps[T, P]])
+      aggregations: Map[String, GremlinSteps[T, P]],
+      reduction: Option[Reduction])
+
+  /**
+    * Single aggregation that can be computed by a reducing step
+    * without collecting all rows first.
+    */
+  case class Reduction(
+      alias: String,
+      values: Option[GremlinSteps[T, P]],
+      reduce: GremlinSteps[T, P] => GremlinSteps[T, P],
+      nullable: Boolean)
 
   sealed trait ReturnFunctionType
   case object Aggregation extends ReturnFunctionType
@@ -108,6 +119,8 @@ private class ProjectionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
 
   private def returnSubTraversals(items: Seq[ReturnItem]): SubTraversals = {
     val select = getVariableNames(items)
+    val reducedAlias = reducibleAggregation(items)
+    var reduction: Option[Reduction] = None
 
     val pivotCollector = mutable.LinkedHashMap.empty[String, GremlinSteps[T, P]]
     val aggregationCollector = mutable.LinkedHashMap.empty[String, GremlinSteps[T, P]]
@@ -116,14 +129,20 @@ private class ProjectionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
     for (item <- items) {
       val AliasedReturnItem(expression, Variable(alias)) = item
 
-      val (returnType, traversal) = subTraversal(alias, expression)
+      if (reducedAlias.contains(alias)) {
+        reduction = Some(reducingAggregation(alias, expression))
+        allCollector.put(alias, __.identity())
+        aggregationCollector.put(alias, __.identity())
+      } else {
+        val (returnType, traversal) = subTraversal(alias, expression)
 
-      allCollector.put(alias, traversal)
+        allCollector.put(alias, traversal)
 
-      returnType match {
-        case Pivot       => pivotCollector.put(alias, traversal)
-        case Aggregation => aggregationCollector.put(alias, traversal)
-        case Expression  => aggregationCollector.put(alias, traversal)
+        returnType match {
+          case Pivot       => pivotCollector.put(alias, traversal)
+          case Aggregation => aggregationCollector.put(alias, traversal)
+          case Expression  => aggregationCollector.put(alias, traversal)
+        }
       }
     }
 
@@ -131,11 +150,11 @@ private class ProjectionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
     val aggregations = ListMap(aggregationCollector.toSeq: _*)
     val all = ListMap(allCollector.toSeq: _*)
 
-    SubTraversals(select, all, pivots, aggregations)
+    SubTraversals(select, all, pivots, aggregations, reduction)
   }
 
   private def applyProjection(subTraversals: SubTraversals): GremlinSteps[T, P] = {
-    val SubTraversals(select, all, pivots, aggregations) = subTraversals
+    val SubTraversals(select, all, pivots, aggregations, reduction) = subTraversals
     lazy val selectMap = {
       if (select.isEmpty) {
         g
@@ -146,15 +165,37 @@ private class ProjectionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
       }
     }
 
-    if (pivots.nonEmpty && aggregations.nonEmpty) {
-      val pivotTraversal = if (pivots.size == 1) {
+    lazy val pivotTraversal = {
+      if (pivots.size == 1) {
         pivots.values.head
       } else {
         val traversal = __.project(pivots.keySet.toSeq: _*)
         for ((_, expression) <- pivots) traversal.by(expression)
         traversal
       }
+    }
 
+    if (pivots.nonEmpty && reduction.isDefined) {
+      val Reduction(reducedAlias, values, reduce, nullable) = reduction.get
+      val valueTraversal = reduce(values.map(__.flatMap(_)).getOrElse(__))
+
+      val projection = selectMap
+        .group()
+        .by(pivotTraversal)
+        .by(valueTraversal)
+        .unfold()
+        .project(all.keySet.toSeq: _*)
+      for (alias <- all.keySet) {
+        if (alias == reducedAlias) {
+          projection.by(nullIfNaN(__.select(Column.values), nullable))
+        } else if (pivots.size == 1) {
+          projection.by(__.select(Column.keys))
+        } else {
+          projection.by(__.select(Column.keys).select(alias))
+        }
+      }
+      projection
+    } else if (pivots.nonEmpty && aggregations.nonEmpty) {
       val aggregationTraversal = __.fold().project(all.keySet.toSeq: _*)
       for ((_, expression) <- all) aggregationTraversal.by(__.unfold().flatMap(expression))
 
@@ -171,6 +212,13 @@ private class ProjectionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
       selectMap
         .flatMap(pivotTraversal)
 
+    } else if (reduction.isDefined) {
+      val Reduction(reducedAlias, values, reduce, nullable) = reduction.get
+      val rows = values.map(selectMap.flatMap(_)).getOrElse(selectMap)
+
+      reduce(rows)
+        .project(reducedAlias)
+        .by(nullIfNaN(__.identity(), nullable))
     } else if (aggregations.nonEmpty) {
       val aggregationTraversal = __.project(aggregations.keySet.toSeq: _*)
       for ((_, expression) <- aggregations) aggregationTraversal.by(__.unfold().flatMap(expression))
@@ -341,13 +389,7 @@ private class ProjectionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
   private def aggregation(alias: String, expression: Expression): (ReturnFunctionType, GremlinSteps[T, P]) = {
     expression match {
       case FunctionInvocation(_, FunctionName(fnName), distinct, args) =>
-        if (args.flatMap(n => n +: n.subExpressions).exists {
-              case FunctionInvocation(_, FunctionName("rand"), _, _) => true
-              case _                                                 => false
-            }) throw new SyntaxException("Can't use non-deterministic (random) functions inside of aggregate functions")
-
-        if (args.exists(_.containsAggregate))
-          throw new SyntaxException("Can't use aggregate functions inside of aggregate functions")
+        validateAggregationArguments(args)
 
         val (_, traversal) = subTraversal(alias, args.head)
 
@@ -386,6 +428,66 @@ private class ProjectionWalker[T, P](context: WalkerContext[T, P], g: GremlinSte
     }
   }
 
+  private def reducibleAggregation(items: Seq[ReturnItem]): Option[String] = {
+    val aggregating = items.collect {
+      case AliasedReturnItem(expression, Variable(alias)) if expression.containsAggregate => (alias, expression)
+    }
+
+    aggregating match {
+      case Seq((alias, CountStar())) =>
+        Some(alias)
+      case Seq((alias, FunctionInvocation(_, FunctionName(fnName), false, Seq(_)))) if isReducing(fnName) =>
+        Some(alias)
+      case _ =>
+        None
+    }
+  }
+
+  private def isReducing(fnName: String): Boolean = {
+    fnName.toLowerCase match {
+      case "avg" | "count" | "max" | "min" | "sum" => true
+      case _                                       => false
+    }
+  }
+
+  private def reducingAggregation(alias: String, expression: Expression): Reduction = {
+    expression match {
+      case CountStar() =>
+        Reduction(alias, None, _.count(), nullable = false)
+      case FunctionInvocation(_, FunctionName(fnName), _, args) =>
+        validateAggregationArguments(args)
+
+        val (_, traversal) = subTraversal(alias, args.head)
+        val values = Some(traversal.is(p.neq(NULL)))
+
+        fnName.toLowerCase match {
+          case "avg"   => Reduction(alias, values, _.mean(), nullable = true)
+          case "count" => Reduction(alias, values, _.count(), nullable = false)
+          case "max"   => Reduction(alias, values, _.max(), nullable = true)
+          case "min"   => Reduction(alias, values, _.min(), nullable = true)
+          case "sum"   => Reduction(alias, values, _.sum(), nullable = false)
+        }
+    }
+  }
+
+  private def nullIfNaN(traversal: GremlinSteps[T, P], nullable: Boolean): GremlinSteps[T, P] = {
+    if (nullable) {
+      traversal.choose(p.isEq(java.lang.Double.NaN), __.constant(NULL))
+    } else {
+      traversal
+    }
+  }
+
+  private def validateAggregationArguments(args: Seq[Expression]): Unit = {
+    if (args.flatMap(n => n +: n.subExpressions).exists {
+          case FunctionInvocation(_, FunctionName("rand"), _, _) => true
+          case _                                                 => false
+        }) throw new SyntaxException("Can't use non-deterministic (random) functions inside of aggregate functions")
+
+    if (args.exists(_.containsAggregate))
+      throw new SyntaxException("Can't use aggregate functions inside of aggregate functions")
+  }
+
   private def sort(sortItems: Seq[SortItem]): Unit = {
     g.order()
     for (sortItem <- sortItems) {
@@ -20,7 +20,7 @@ import org.opencypher.gremlin.translation.context.WalkerContext
 import org.opencypher.gremlin.translation.exception.EntityNotFound
 import org.opencypher.gremlin.translation.walker.NodeUtils._
 import org.opencypher.v9_0.ast._
-import org.opencypher.v9_0.expressions.{FunctionInvocation, FunctionName, Property}
+import org.opencypher.v9_0.expressions.{FunctionInvocation, FunctionName, Parameter, Property}
 import org.opencypher.v9_0.util.{ASTNode, InputPosition}
 
 /**
@@ -31,6 +31,29 @@ object StatementWalker {
     val g = context.dsl.steps()
     new StatementWalker(context, g).walk(node)
   }
+
+  /**
+    * Finds the list parameter of a bulk creation query:
+    * `UNWIND $rows AS row` followed only by `CREATE` clauses, without `RETURN`.
+    *
+    * @param node AST root node
+    * @return parameter name, if the query is a bulk creation
+    */
+  def bulkCreateParameter(node: Statement): Option[String] = {
+    node match {
+      case Query(_, SingleQuery(clauses)) => bulkCreateParameter(clauses)
+      case _                              => None
+    }
+  }
+
+  private def bulkCreateParameter(clauses: Seq[Clause]): Option[String] = {
+    clauses match {
+      case Unwind(Parameter(name, _), _) +: creates if creates.nonEmpty && creates.forall(_.isInstanceOf[Create]) =>
+        Some(name)
+      case _ =>
+        None
+    }
+  }
 }
 
 class StatementWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P]) {
@@ -87,17 +110,26 @@ class StatementWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P])
 
   def rewriteClauses(clauses: Seq[Clause]): Seq[ASTNode] = {
     val isReturnDependsOnDelete = returnDependsOnDelete(clauses)
-    val maybeEmptyReturn = if (!clauses.exists(_.isInstanceOf[Return])) Seq(EmptyReturn()) else Nil
+    val isStreamingDelete = !isReturnDependsOnDelete && DeleteWalker.isStreaming(context, clauses)
+    val maybeEmptyReturn = if (!clauses.exists(_.isInstanceOf[Return])) {
+      Seq(EmptyReturn(StatementWalker.bulkCreateParameter(clauses).isDefined))
+    } else {
+      Nil
+    }
 
     clauses.flatMap {
       case deleteClause: Delete if isReturnDependsOnDelete => Seq(deleteClause)
+      case deleteClause: Delete if isStreamingDelete       => Seq(StreamingDelete(deleteClause))
       case deleteClause: Delete                            => Seq(deleteClause, DeleteAggregated())
       case returnClause: Return if isReturnDependsOnDelete => Seq(returnClause, DeleteAggregated())
       case n                                               => Seq(n)
     } ++ maybeEmptyReturn
   }
 
-  case class EmptyReturn() extends ASTNode {
+  /**
+    * @param streaming consume rows without collecting them, for bulk creation
+    */
+  case class EmptyReturn(streaming: Boolean) extends ASTNode {
     override def position: InputPosition = InputPosition.NONE
   }
 
@@ -105,6 +137,10 @@ class StatementWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P])
     override def position: InputPosition = InputPosition.NONE
   }
 
+  case class StreamingDelete(clause: Delete) extends ASTNode {
+    override def position: InputPosition = InputPosition.NONE
+  }
+
   private def walkClause(node: ASTNode): Unit = {
     node match {
       case matchClause: Match =>
@@ -119,12 +155,16 @@ class StatementWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T, P])
         DeleteWalker.walkClause(context, g, deleteClause)
       case _: DeleteAggregated =>
         DeleteWalker.deleteAggregated(context, g)
+      case StreamingDelete(deleteClause) =>
+        DeleteWalker.walkStreaming(context, g, deleteClause)
       case SetClause(_) | Remove(_) =>
         SetWalker.walkClause(context, g, node)
       case projectionClause: ProjectionClause =>
         ProjectionWalker.walk(context, g, projectionClause)
       case callClause: UnresolvedCall =>
         CallWalker.walk(context, g, callClause)
+      case EmptyReturn(true) =>
+        g.count().limit(0)
       case _: EmptyReturn =>
         g.barrier().limit(0)
       case _ =>
@@ -153,7 +153,7 @@ private class WhereWalker[T, P](context: WalkerContext[T, P], g: GremlinSteps[T,
 
       case PatternExpression(RelationshipsPattern(relationshipChain)) =>
         val traversal = g.start()
-        PatternWalker.walk(context, traversal, relationshipChain)
+        PatternWalker.walkExists(context, traversal, relationshipChain)
         traversal
 
       case l: Literal =>
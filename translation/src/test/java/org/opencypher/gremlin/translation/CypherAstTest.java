@@ -19,6 +19,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -36,6 +37,7 @@ import static org.opencypher.gremlin.extension.CypherBindingType.RELATIONSHIP;
 import static org.opencypher.gremlin.extension.CypherBindingType.STRING;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.assertj.core.data.MapEntry;
@@ -43,6 +45,8 @@ import org.junit.Test;
 import org.opencypher.gremlin.extension.CypherProcedureDefinition;
 import org.opencypher.gremlin.translation.groovy.GroovyPredicate;
 import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
+import org.opencypher.gremlin.traversal.ProcedureContext;
 import org.opencypher.v9_0.util.symbols.AnyType;
 import org.opencypher.v9_0.util.symbols.BooleanType;
 import org.opencypher.v9_0.util.symbols.CypherType;
@@ -202,4 +206,127 @@ public class CypherAstTest {
         assertThatThrownBy(() -> ast.buildTranslation(translator))
             .hasMessageContaining("cypherToString");
     }
+
+    @Test
+    public void planReusableWithOtherParameters() {
+        CypherAst ast = CypherAst.parse(
+            "MATCH (n) WHERE n.id = $id RETURN n",
+            singletonMap("id", 1L)
+        );
+        TranslationPlan plan = ast.plan(TranslatorFlavor.gremlinServer(), emptyList(), ProcedureContext.empty());
+
+        assertThat(plan.isReusableWith(singletonMap("id", 2L))).isTrue();
+        assertThat(plan.isReusableWith(emptyMap())).isTrue();
+    }
+
+    @Test
+    public void planNotReusableWithOtherInlinedParameters() {
+        CypherAst ast = CypherAst.parse(
+            "MATCH (n) RETURN n LIMIT $limit",
+            singletonMap("limit", 1L)
+        );
+        TranslationPlan plan = ast.plan(TranslatorFlavor.gremlinServer(), emptyList(), ProcedureContext.empty());
+
+        assertThat(plan.isReusableWith(singletonMap("limit", 1L))).isTrue();
+        assertThat(plan.isReusableWith(singletonMap("limit", 2L))).isFalse();
+        assertThat(plan.isReusableWith(emptyMap())).isFalse();
+    }
+
+    @Test
+    public void planNotReusableWithModifiedInlinedMap() {
+        Map<String, Object> props = new HashMap<>();
+        props.put("a", 1L);
+        Map<String, Object> parameters = singletonMap("props", props);
+        TranslationPlan plan = CypherAst.parse("MATCH (n) SET n += $props", parameters)
+            .plan(TranslatorFlavor.gremlinServer(), emptyList(), ProcedureContext.empty());
+
+        assertThat(plan.isReusableWith(parameters)).isTrue();
+        props.put("b", 2L);
+        assertThat(plan.isReusableWith(parameters)).isFalse();
+    }
+
+    @Test
+    public void planUnionBranches() {
+        TranslationPlan union = plan("MATCH (a:A) RETURN a.name AS name UNION MATCH (b:B) RETURN b.name AS name");
+        TranslationPlan unionAll = plan("MATCH (a:A) RETURN a.name AS name UNION ALL MATCH (b:B) RETURN b.name AS name");
+
+        assertThat(union.getUnionBranches()).hasSize(2);
+        assertThat(union.isDistinctUnion()).isTrue();
+        assertThat(unionAll.getUnionBranches()).hasSize(2);
+        assertThat(unionAll.isDistinctUnion()).isFalse();
+    }
+
+    @Test
+    public void planNoUnionBranches() {
+        TranslationPlan single = plan("MATCH (a:A) RETURN a.name AS name");
+        TranslationPlan writing = plan("CREATE (a:A) RETURN 1 AS one UNION MATCH (b:B) RETURN 2 AS one");
+
+        assertThat(single.getUnionBranches()).isEmpty();
+        assertThat(writing.getUnionBranches()).isEmpty();
+    }
+
+    @Test
+    public void planNoUnionBranchesWithProcedureCalls() {
+        CypherProcedureDefinition procedures = new CypherProcedureDefinition();
+        procedures.define(
+            "proc",
+            emptyList(),
+            singletonList(binding("out", STRING)),
+            arguments -> {
+                throw new UnsupportedOperationException();
+            }
+        );
+        TranslationPlan plan = CypherAst.parse(
+            "CALL proc() YIELD out RETURN out UNION MATCH (b:B) RETURN b.name AS out",
+            emptyMap(),
+            procedures.getSignatures()
+        ).plan(TranslatorFlavor.gremlinServer(), emptyList(), new ProcedureContext(procedures));
+
+        assertThat(plan.getUnionBranches()).isEmpty();
+    }
+
+    @Test
+    public void planReadOnly() {
+        assertThat(plan("MATCH (n) RETURN n").isReadOnly()).isTrue();
+        assertThat(plan("MATCH (n) WHERE exists((n)-->()) RETURN n").isReadOnly()).isTrue();
+        assertThat(plan("CREATE (n) RETURN n").isReadOnly()).isFalse();
+        assertThat(plan("MATCH (n) SET n.a = 1 RETURN n").isReadOnly()).isFalse();
+        assertThat(plan("MATCH (n) DETACH DELETE n").isReadOnly()).isFalse();
+        assertThat(plan("MATCH (n) RETURN n UNION CREATE (m) RETURN m AS n").isReadOnly()).isFalse();
+    }
+
+    @Test
+    public void planBulkParameter() {
+        TranslationPlan bulk = plan("UNWIND $rows AS row CREATE (:L {name: row.name})");
+        TranslationPlan returning = plan("UNWIND $rows AS row CREATE (n:L {name: row.name}) RETURN n");
+        TranslationPlan matching = plan("UNWIND $rows AS row MATCH (n:L {name: row.name}) CREATE (n)-[:R]->()");
+
+        assertThat(bulk.getBulkParameter()).hasValue("rows");
+        assertThat(returning.getBulkParameter()).isEmpty();
+        assertThat(matching.getBulkParameter()).isEmpty();
+    }
+
+    @Test
+    public void bulkCreateStreamsRows() {
+        String translation = CypherAst.parse("UNWIND $rows AS row CREATE (:L {name: row.name})")
+            .buildTranslation(Translator.builder().gremlinGroovy().build());
+
+        assertThat(translation)
+            .endsWith(".count().limit(0)")
+            .doesNotContain("barrier()");
+    }
+
+    @Test
+    public void mergeUpsert() {
+        String translation = CypherAst.parse("MERGE (n:N {p: 1})")
+            .buildTranslation(Translator.builder().gremlinGroovy().build());
+
+        assertThat(translation)
+            .contains(".coalesce(__.V().as('n').hasLabel('N')")
+            .doesNotContain("choose(__.V()");
+    }
+
+    private static TranslationPlan plan(String cypher) {
+        return CypherAst.parse(cypher).plan(TranslatorFlavor.gremlinServer(), emptyList(), ProcedureContext.empty());
+    }
 }
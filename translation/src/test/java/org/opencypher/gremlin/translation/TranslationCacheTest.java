@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class TranslationCacheTest {
+
+    @Test
+    public void hitsAndMisses() {
+        TranslationCache<String, String> cache = new TranslationCache<>(10);
+        AtomicInteger translations = new AtomicInteger();
+
+        cache.get("a", k -> k + translations.incrementAndGet());
+        String translation = cache.get("a", k -> k + translations.incrementAndGet());
+
+        assertThat(translation).isEqualTo("a1");
+        assertThat(translations.get()).isEqualTo(1);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(cache.stats().hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void notReusable() {
+        TranslationCache<String, String> cache = new TranslationCache<>(10);
+
+        cache.get("a", k -> "old");
+        String translation = cache.get("a", v -> false, k -> "new");
+
+        assertThat(translation).isEqualTo("new");
+        assertThat(cache.get("a", k -> "other")).isEqualTo("new");
+        assertThat(cache.stats().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void leastRecentlyUsedEviction() {
+        TranslationCache<String, String> cache = new TranslationCache<>(2);
+
+        cache.get("a", k -> k);
+        cache.get("b", k -> k);
+        cache.get("a", k -> k);
+        cache.get("c", k -> k);
+        cache.get("a", k -> k);
+
+        TranslationCache.Stats stats = cache.stats();
+        assertThat(stats.size()).isEqualTo(2);
+        assertThat(stats.evictionCount()).isEqualTo(1);
+        assertThat(stats.hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void concurrentAccess() throws Exception {
+        TranslationCache<Integer, String> cache = new TranslationCache<>(8);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < 4; t++) {
+                results.add(executor.submit(() -> {
+                    boolean consistent = true;
+                    for (int i = 0; i < 10000; i++) {
+                        int key = i % 16;
+                        consistent &= cache.get(key, String::valueOf).equals(String.valueOf(key));
+                    }
+                    return consistent;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        TranslationCache.Stats stats = cache.stats();
+        assertThat(stats.size()).isLessThanOrEqualTo(8);
+        assertThat(stats.hitCount() + stats.missCount()).isEqualTo(40000);
+    }
+
+    @Test
+    public void disabled() {
+        TranslationCache<String, String> cache = new TranslationCache<>(0);
+
+        cache.get("a", k -> k);
+        cache.get("a", k -> k);
+
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.stats().missCount()).isEqualTo(2);
+    }
+}
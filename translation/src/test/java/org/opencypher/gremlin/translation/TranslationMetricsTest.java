@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.opencypher.gremlin.translation.TranslationPhase.PARSING;
+import static org.opencypher.gremlin.translation.TranslationPhase.POST_CONDITIONS;
+import static org.opencypher.gremlin.translation.TranslationPhase.REWRITING;
+import static org.opencypher.gremlin.translation.TranslationPhase.SEMANTIC_ANALYSIS;
+import static org.opencypher.gremlin.translation.TranslationPhase.WALKING;
+import static org.opencypher.gremlin.translation.TranslationPhase.WRITING;
+
+import org.junit.Test;
+import org.opencypher.gremlin.translation.translator.Translator;
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor;
+import org.opencypher.gremlin.traversal.ProcedureContext;
+
+public class TranslationMetricsTest {
+
+    @Test
+    public void phases() {
+        TranslationMetrics metrics = new TranslationMetrics();
+
+        CypherAst ast = CypherAst.parse("MATCH (n) RETURN n.name AS name", emptyMap(), emptyMap(), metrics);
+        ast.plan(TranslatorFlavor.gremlinServer(), emptyList(), ProcedureContext.empty());
+
+        assertThat(metrics.phase(PARSING).count()).isEqualTo(1);
+        assertThat(metrics.phase(SEMANTIC_ANALYSIS).count()).isEqualTo(1);
+        assertThat(metrics.phase(WALKING).count()).isEqualTo(1);
+        assertThat(metrics.phase(REWRITING).count()).isEqualTo(1);
+        assertThat(metrics.phase(POST_CONDITIONS).count()).isEqualTo(1);
+        assertThat(metrics.phase(WRITING).count()).isEqualTo(0);
+
+        ast.buildTranslation(Translator.builder().gremlinGroovy().build());
+
+        assertThat(metrics.phase(WALKING).count()).isEqualTo(2);
+        assertThat(metrics.phase(WRITING).count()).isEqualTo(1);
+    }
+
+    @Test
+    public void rewriters() {
+        TranslationMetrics metrics = new TranslationMetrics();
+
+        CypherAst.parse("MATCH (n) RETURN n.name AS name", emptyMap(), emptyMap(), metrics)
+            .plan(TranslatorFlavor.gremlinServer(), emptyList(), ProcedureContext.empty());
+
+        assertThat(metrics.rewriters())
+            .containsKeys("RemoveUselessSteps");
+        assertThat(metrics.skippedRewriters())
+            .containsEntry("SimplifyEdgeTraversal", 1L)
+            .containsEntry("SimplifyOrderLimit", 1L);
+        assertThat(metrics.rewriters().values())
+            .allMatch(timing -> timing.count() > 0);
+        assertThat(metrics.stepsBeforeRewriting()).isPositive();
+        assertThat(metrics.stepsAfterRewriting()).isPositive();
+    }
+
+    @Test
+    public void histogram() {
+        TranslationMetrics metrics = new TranslationMetrics();
+
+        metrics.phaseCompleted(PARSING, 500);
+        metrics.phaseCompleted(PARSING, 3_000);
+        metrics.phaseCompleted(PARSING, 3_000_000);
+
+        TranslationMetrics.Timing parsing = metrics.phase(PARSING);
+        assertThat(parsing.count()).isEqualTo(3);
+        assertThat(parsing.totalNanos()).isEqualTo(3_003_500);
+        assertThat(parsing.maxNanos()).isEqualTo(3_000_000);
+        assertThat(parsing.histogram()[0]).isEqualTo(1);
+        assertThat(parsing.histogram()[2]).isEqualTo(1);
+        assertThat(parsing.histogram()[12]).isEqualTo(1);
+    }
+}
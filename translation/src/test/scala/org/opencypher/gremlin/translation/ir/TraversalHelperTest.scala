@@ -15,6 +15,7 @@
  */
 package org.opencypher.gremlin.translation.ir
 
+import org.apache.tinkerpop.gremlin.structure.Column
 import org.assertj.core.api.Assertions.assertThat
 import org.junit.Test
 import org.opencypher.gremlin.translation.ir.TraversalHelper.{AfterStep, BeforeStep}
@@ -179,4 +180,14 @@ class TraversalHelperTest {
       ))
   }
 
+  @Test
+  def fixedPoint(): Unit = {
+    val seq = Unfold :: Unfold :: SelectC(Column.values) :: Nil
+    val swap = TraversalHelper.replace({
+      case Unfold :: SelectC(Column.values) :: rest => SelectC(Column.values) :: Unfold :: rest
+    }) _
+
+    assertThat(swap(seq)).isEqualTo(Unfold :: SelectC(Column.values) :: Unfold :: Nil)
+    assertThat(TraversalHelper.fixedPoint(swap)(seq)).isEqualTo(SelectC(Column.values) :: Unfold :: Unfold :: Nil)
+  }
 }
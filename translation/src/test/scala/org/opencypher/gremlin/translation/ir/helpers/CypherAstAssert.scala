@@ -21,9 +21,12 @@ import org.opencypher.gremlin.translation.ir.builder.{IRGremlinPredicates, IRGre
 import org.opencypher.gremlin.translation.ir.helpers.TraversalAssertions._
 import org.opencypher.gremlin.translation.ir.model.{GremlinPredicate, GremlinStep}
 import org.opencypher.gremlin.translation.ir.rewrite.{GremlinRewriter, IdentityRewriter}
-import org.opencypher.gremlin.translation.translator.TranslatorFlavor
+import org.opencypher.gremlin.translation.translator.TranslatorFeature.{CYPHER_EXTENSIONS, MULTIPLE_LABELS}
+import org.opencypher.gremlin.translation.translator.{GraphStatistics, Translator, TranslatorFlavor}
 import org.opencypher.gremlin.translation.{CypherAst, GremlinSteps}
+import org.opencypher.gremlin.traversal.ProcedureContext
 
+import scala.collection.JavaConverters._
 import scala.collection.Seq
 
 object CypherAstAssert {
@@ -34,15 +37,20 @@ object CypherAstAssert {
 class CypherAstAssert(
     actual: CypherAst,
     val flavor: TranslatorFlavor = TranslatorFlavor.empty,
-    val rewriter: GremlinRewriter = IdentityRewriter
+    val rewriter: GremlinRewriter = IdentityRewriter,
+    val statistics: GraphStatistics = GraphStatistics.empty()
 ) extends AbstractAssert[CypherAstAssert, CypherAst](actual, classOf[CypherAstAssert]) {
 
   def withFlavor(flavor: TranslatorFlavor): CypherAstAssert = {
-    new CypherAstAssert(actual, flavor, rewriter)
+    new CypherAstAssert(actual, flavor, rewriter, statistics)
   }
 
   def rewritingWith(rewriter: GremlinRewriter): CypherAstAssert = {
-    new CypherAstAssert(actual, flavor, rewriter)
+    new CypherAstAssert(actual, flavor, rewriter, statistics)
+  }
+
+  def withStatistics(statistics: GraphStatistics): CypherAstAssert = {
+    new CypherAstAssert(actual, flavor, rewriter, statistics)
   }
 
   def normalizedTo(expected: String): CypherAstAssert = {
@@ -89,11 +97,16 @@ class CypherAstAssert(
   }
 
   private def actualTraversal = {
-    actual.translate(flavor)
+    translate(flavor)
   }
 
   private def rewriteTraversal = {
     Preconditions.checkNotNull(rewriter, "Rewriter not set! Use `CypherAstAssert.rewritingWith`")
-    actual.translate(flavor.extend(Seq(rewriter), Seq()))
+    translate(flavor.extend(Seq(rewriter), Seq()))
+  }
+
+  private def translate(flavor: TranslatorFlavor) = {
+    val features = Seq(MULTIPLE_LABELS, CYPHER_EXTENSIONS).asJava
+    actual.plan(flavor, features, ProcedureContext.empty(), statistics, Translator.DEFAULT_HOP_LIMIT).ir
   }
 }
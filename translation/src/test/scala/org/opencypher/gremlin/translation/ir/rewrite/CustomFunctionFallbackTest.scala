@@ -63,6 +63,17 @@ class CustomFunctionFallbackTest {
           .local(__.unfold().choose(P.neq(Tokens.NULL), __.sum())))
   }
 
+  @Test
+  def cypherFloatPlusFallback(): Unit = {
+    assertThat(parse("RETURN 1.5 + 2 AS a"))
+      .withFlavor(flavor)
+      .rewritingWith(CustomFunctionFallback)
+      .removes(__.select(Column.values).map(CustomFunction.cypherFloatPlus()))
+      .adds(
+        __.select(Column.values)
+          .local(__.unfold().choose(P.neq(Tokens.NULL), __.sum())))
+  }
+
   @Test
   def cypherSizeFallback(): Unit = {
     assertThat(parse("RETURN size($noType) AS a"))
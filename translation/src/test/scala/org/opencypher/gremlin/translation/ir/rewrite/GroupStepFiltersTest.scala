@@ -165,6 +165,31 @@ class GroupStepFiltersTest {
       .adds(__.has(T.id.getAccessor, P.isEq(GremlinBinding("nID"))))
   }
 
+  @Test
+  def propertyWithParam(): Unit = {
+    val params = new java.util.HashMap[String, Any](Map("p" -> "n").asJava)
+    assertThat(
+      parse(
+        """
+          |MATCH (n)
+          |WHERE n.p = {p}
+          |RETURN n
+        """.stripMargin,
+        params
+      ))
+      .withFlavor(flavor)
+      .rewritingWith(GroupStepFilters)
+      .removes(
+        __.where(
+          __.choose(__.constant(GremlinBinding("p")), __.constant(GremlinBinding("p")), __.constant(NULL))
+            .is(P.neq(NULL))
+            .as(GENERATED + 1)
+            .select("n")
+            .values("p")
+            .where(P.isEq(GENERATED + 1))))
+      .adds(__.has("p", P.isEq(GremlinBinding("p"))))
+  }
+
   @Test
   def whereWithParams(): Unit = {
     val params = new java.util.HashMap[String, Any](Map("nID" -> 1).asJava)
@@ -36,6 +36,25 @@ class NeptuneFlavorTest {
       .adds(__.select(NONEXISTENT))
   }
 
+  @Test
+  def limit0WorkaroundBulkCreate(): Unit = {
+    assertThat(parse("UNWIND $rows AS row CREATE ({name: row})"))
+      .withFlavor(flavor)
+      .rewritingWith(NeptuneFlavor)
+      .removes(__.count().limit(0))
+      .adds(__.select(NONEXISTENT))
+  }
+
+  @Test
+  def limit0WorkaroundStreamingDetachDelete(): Unit = {
+    assertThat(parse("MATCH (n:Temp) DETACH DELETE n"))
+      .withFlavor(flavor)
+      .rewritingWith(NeptuneFlavor)
+      .removes(__.limit(0))
+      .adds(__.select(NONEXISTENT))
+      .keeps(__.barrier(1000))
+  }
+
   @Test
   def expandListProperties(): Unit = {
     assertThat(parse("CREATE ({foo: [1, 2, 3]})"))
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.ir.rewrite
+
+import org.apache.tinkerpop.gremlin.structure.T
+import org.junit.Test
+import org.opencypher.gremlin.translation.CypherAst.parse
+import org.opencypher.gremlin.translation.ir.helpers.CypherAstAssert.{P, __}
+import org.opencypher.gremlin.translation.ir.helpers.CypherAstAssertions.assertThat
+import org.opencypher.gremlin.translation.ir.model.GremlinBinding
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor
+
+import scala.collection.JavaConverters._
+
+class NormalizeVertexStartTest {
+
+  val flavor = new TranslatorFlavor(
+    rewriters = Seq(
+      InlineFlatMapTraversal,
+      GroupStepFilters
+    ),
+    postConditions = Nil
+  )
+
+  @Test
+  def labelAndProperty(): Unit = {
+    assertThat(parse("""
+        |MATCH (n:N {p: 'n'})
+        |RETURN n
+      """.stripMargin))
+      .withFlavor(flavor)
+      .rewritingWith(NormalizeVertexStart)
+      .keeps(__.V().as("n").hasLabel("N").has("p", P.isEq("n")))
+  }
+
+  @Test
+  def propertyParameter(): Unit = {
+    val params = new java.util.HashMap[String, Any](Map("p" -> "n").asJava)
+    assertThat(
+      parse(
+        """
+          |MATCH (n:N {p: $p})
+          |RETURN n
+        """.stripMargin,
+        params
+      ))
+      .withFlavor(flavor)
+      .rewritingWith(NormalizeVertexStart)
+      .keeps(__.V().as("n").hasLabel("N").has("p", P.isEq(GremlinBinding("p"))))
+  }
+
+  @Test
+  def wherePropertyParameter(): Unit = {
+    val params = new java.util.HashMap[String, Any](Map("p" -> "n").asJava)
+    assertThat(
+      parse(
+        """
+          |MATCH (n:N)
+          |WHERE n.p = $p
+          |RETURN n
+        """.stripMargin,
+        params
+      ))
+      .withFlavor(flavor)
+      .rewritingWith(NormalizeVertexStart)
+      .keeps(__.V().as("n").hasLabel("N").has("p", P.isEq(GremlinBinding("p"))))
+  }
+
+  @Test
+  def idFirst(): Unit = {
+    val params = new java.util.HashMap[String, Any](Map("nID" -> 1).asJava)
+    assertThat(
+      parse(
+        """
+          |MATCH (n:N {p: 'n'})
+          |WHERE id(n) = $nID
+          |RETURN n
+        """.stripMargin,
+        params
+      ))
+      .withFlavor(flavor)
+      .rewritingWith(NormalizeVertexStart)
+      .adds(
+        __.V()
+          .as("n")
+          .has(T.id.getAccessor, P.isEq(GremlinBinding("nID")))
+          .hasLabel("N")
+          .has("p", P.isEq("n")))
+  }
+
+  @Test
+  def equalityBeforeOtherPredicates(): Unit = {
+    assertThat(parse("""
+        |MATCH (n:N)
+        |WHERE n.q <> 'q' AND n.p = 'p'
+        |RETURN n
+      """.stripMargin))
+      .withFlavor(flavor.extend(Seq(NormalizeVertexStart)))
+      .contains(__.V().as("n").hasLabel("N").has("p", P.isEq("p")).has("q", P.neq("q")))
+  }
+}
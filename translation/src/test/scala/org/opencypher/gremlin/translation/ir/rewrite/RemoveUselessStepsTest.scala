@@ -32,7 +32,7 @@ class RemoveUselessStepsTest {
   )
 
   @Test def foldUnfold(): Unit = {
-    assertThat(parse("MATCH (n) RETURN count(*)"))
+    assertThat(parse("MATCH (n) RETURN count(DISTINCT n)"))
       .withFlavor(flavor)
       .rewritingWith(RemoveUselessSteps)
       .removes(__.fold().unfold())
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.ir.rewrite
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.Test
+import org.opencypher.gremlin.translation.TranslationMetrics
+import org.opencypher.gremlin.translation.ir.TraversalHelper._
+import org.opencypher.gremlin.translation.ir.model._
+
+private[rewrite] object DropEdges extends GremlinRewriter {
+  override val triggers: Set[Class[_ <: GremlinStep]] = Set(classOf[OutE])
+
+  override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
+    mapTraversals(_.filterNot(_.isInstanceOf[OutE]))(steps)
+  }
+}
+
+private[rewrite] object DropSelects extends GremlinRewriter {
+  override def apply(steps: Seq[GremlinStep]): Seq[GremlinStep] = {
+    mapTraversals(_.filterNot(_.isInstanceOf[SelectK]))(steps)
+  }
+}
+
+class RewriterSchedulerTest {
+
+  @Test
+  def skipUntriggered(): Unit = {
+    val metrics = new TranslationMetrics
+    val steps = Vertex :: As("n") :: SelectK("n") :: Nil
+
+    val rewritten = RewriterScheduler(Seq(DropEdges), metrics)(steps)
+
+    assertThat(rewritten).isEqualTo(steps)
+    assertThat(metrics.skippedRewriters()).containsEntry("DropEdges", 1L)
+    assertThat(metrics.rewriters()).doesNotContainKey("DropEdges")
+  }
+
+  @Test
+  def triggerInNestedTraversal(): Unit = {
+    val metrics = new TranslationMetrics
+    val steps = Vertex :: FlatMapT(OutE("R") :: InV :: Nil) :: Nil
+
+    val rewritten = RewriterScheduler(Seq(DropEdges), metrics)(steps)
+
+    assertThat(rewritten).isEqualTo(Vertex :: FlatMapT(InV :: Nil) :: Nil)
+    assertThat(metrics.skippedRewriters()).isEmpty()
+  }
+
+  @Test
+  def reapplyOnChange(): Unit = {
+    val metrics = new TranslationMetrics
+    val steps = Vertex :: As("n") :: SelectK("n") :: Nil
+
+    val rewritten = RewriterScheduler(Seq(RemoveUnusedAliases, DropSelects), metrics)(steps)
+
+    assertThat(rewritten).isEqualTo(Vertex :: Nil)
+    assertThat(metrics.rewriters().get("RemoveUnusedAliases").count()).isEqualTo(2)
+    assertThat(metrics.rewriters().get("DropSelects").count()).isEqualTo(1)
+  }
+
+  @Test
+  def noReapplyWithoutChange(): Unit = {
+    val metrics = new TranslationMetrics
+    val steps = Vertex :: As("n") :: SelectK("n") :: Nil
+
+    val rewritten = RewriterScheduler(Seq(RemoveUnusedAliases, DropEdges, IdentityRewriter), metrics)(steps)
+
+    assertThat(rewritten).isEqualTo(steps)
+    assertThat(metrics.rewriters().get("RemoveUnusedAliases").count()).isEqualTo(1)
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.ir.rewrite
+
+import org.apache.tinkerpop.gremlin.process.traversal.Scope
+import org.junit.Test
+import org.opencypher.gremlin.translation.CypherAst.parse
+import org.opencypher.gremlin.translation.ir.helpers.CypherAstAssert.__
+import org.opencypher.gremlin.translation.ir.helpers.CypherAstAssertions.assertThat
+import org.opencypher.gremlin.translation.translator.TranslatorFlavor
+
+class SimplifyOrderLimitTest {
+
+  val flavor = new TranslatorFlavor(
+    rewriters = Nil,
+    postConditions = Nil
+  )
+
+  @Test
+  def skipLimit(): Unit = {
+    assertThat(parse("MATCH (n) RETURN n.name AS name ORDER BY name SKIP 2 LIMIT 3"))
+      .withFlavor(flavor)
+      .rewritingWith(SimplifyOrderLimit)
+      .removes(__.skip(2).limit(3))
+      .adds(__.range(Scope.global, 2, 5))
+  }
+
+  @Test
+  def limitOnly(): Unit = {
+    assertThat(parse("MATCH (n) RETURN n.name AS name ORDER BY name LIMIT 3"))
+      .withFlavor(flavor)
+      .rewritingWith(SimplifyOrderLimit)
+      .keeps(__.limit(3))
+  }
+}
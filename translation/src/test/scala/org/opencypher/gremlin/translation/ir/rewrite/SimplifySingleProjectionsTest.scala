@@ -47,7 +47,7 @@ class SimplifySingleProjectionsTest {
   def aggregation(): Unit = {
     assertThat(parse("""
         |MATCH (n1)-[r]->(n2)
-        |RETURN count(n1)
+        |RETURN count(DISTINCT n1)
       """.stripMargin))
       .withFlavor(flavor)
       .rewritingWith(SimplifySingleProjections)
@@ -244,6 +244,27 @@ class TranslatorBuilderTest {
       .hasMessageContaining("Unknown translator feature: not_existing in `cosmosdb+not_existing`")
   }
 
+  @Test
+  def hopLimit(): Unit = {
+    assertThat(createBuilder.build("gremlin").hopLimit()).isEqualTo(Translator.DEFAULT_HOP_LIMIT)
+
+    val dslBuilder = createBuilder.build("gremlin+hop_limit=3")
+    val steps = parse("MATCH (n)-[*]->(m) RETURN m")
+      .buildTranslation(dslBuilder)
+
+    assertThat(dslBuilder.hopLimit()).isEqualTo(3)
+    assertContains(steps, __.times(3))
+    assertNotContains(steps, __.times(Translator.DEFAULT_HOP_LIMIT))
+  }
+
+  @Test
+  def invalidHopLimit(): Unit = {
+    assertThatThrownBy(() => createBuilder.build("gremlin+hop_limit=0"))
+      .hasMessageContaining("Invalid hop limit: hop_limit=0 in `gremlin+hop_limit=0`")
+    assertThatThrownBy(() => createBuilder.build("gremlin+hop_limit=many"))
+      .hasMessageContaining("Invalid hop limit: hop_limit=many in `gremlin+hop_limit=many`")
+  }
+
   @Test
   def allFlavorsSupported(): Unit = {
     allFlavors.foreach(
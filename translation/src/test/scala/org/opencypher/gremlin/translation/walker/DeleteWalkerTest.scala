@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.walker
+
+import org.junit.Test
+import org.opencypher.gremlin.translation.CypherAst.parse
+import org.opencypher.gremlin.translation.Tokens.{DELETE, DETACH_DELETE}
+import org.opencypher.gremlin.translation.ir.helpers.CypherAstAssert.__
+import org.opencypher.gremlin.translation.ir.helpers.CypherAstAssertions.assertThat
+
+class DeleteWalkerTest {
+
+  @Test
+  def streamingDetachDelete(): Unit = {
+    assertThat(parse("MATCH (n:Temp) DETACH DELETE n"))
+      .contains(__.barrier(1000))
+      .doesNotContain(__.cap(DETACH_DELETE))
+  }
+
+  @Test
+  def streamingDetachDeleteWithReturn(): Unit = {
+    assertThat(parse("MATCH (n:Temp) WHERE n.i > 0 DETACH DELETE n RETURN count(*) AS deleted"))
+      .contains(__.barrier(1000))
+      .doesNotContain(__.cap(DETACH_DELETE))
+  }
+
+  @Test
+  def aggregatedDeleteOfRelationshipPattern(): Unit = {
+    assertThat(parse("MATCH (n:Temp)-->(m) DETACH DELETE n RETURN m"))
+      .contains(__.cap(DETACH_DELETE))
+      .doesNotContain(__.barrier(1000))
+  }
+
+  @Test
+  def aggregatedDeleteWhenReturnDepends(): Unit = {
+    assertThat(parse("MATCH (n:Temp) DETACH DELETE n RETURN n"))
+      .contains(__.cap(DETACH_DELETE))
+      .doesNotContain(__.barrier(1000))
+  }
+
+  @Test
+  def aggregatedDeleteWithValidation(): Unit = {
+    assertThat(parse("MATCH (n:Temp) DELETE n"))
+      .contains(__.cap(DELETE))
+      .doesNotContain(__.barrier(1000))
+  }
+}
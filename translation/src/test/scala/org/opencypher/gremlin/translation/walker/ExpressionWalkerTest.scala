@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.walker
+import org.junit.Test
+import org.opencypher.gremlin.translation.CypherAst.parse
+import org.opencypher.gremlin.translation.ir.helpers.CypherAstAssert.__
+import org.opencypher.gremlin.translation.ir.helpers.CypherAstAssertions.assertThat
+import org.opencypher.gremlin.traversal.CustomFunction
+
+class ExpressionWalkerTest {
+
+  @Test
+  def conversionToSameType(): Unit = {
+    assertThat(parse("RETURN toInteger(1) AS i, toFloat(1.5) AS f, toString('s') AS s, toBoolean(true) AS b"))
+      .doesNotContain(__.map(CustomFunction.cypherToInteger()))
+      .doesNotContain(__.map(CustomFunction.cypherToFloat()))
+      .doesNotContain(__.map(CustomFunction.cypherToString()))
+      .doesNotContain(__.map(CustomFunction.cypherToBoolean()))
+  }
+
+  @Test
+  def numberConversion(): Unit = {
+    assertThat(parse("RETURN toInteger(1.5) AS i, toFloat(1) AS f"))
+      .contains(__.map(CustomFunction.cypherNumberToInteger()))
+      .contains(__.map(CustomFunction.cypherNumberToFloat()))
+      .doesNotContain(__.map(CustomFunction.cypherToInteger()))
+      .doesNotContain(__.map(CustomFunction.cypherToFloat()))
+  }
+
+  @Test
+  def untypedConversion(): Unit = {
+    assertThat(parse("MATCH (n) RETURN toInteger(n.p) AS i"))
+      .contains(__.map(CustomFunction.cypherToInteger()))
+  }
+
+  @Test
+  def typedPlus(): Unit = {
+    assertThat(parse("RETURN 1.5 + 1 AS f, 'a' + 1 AS s"))
+      .contains(__.map(CustomFunction.cypherFloatPlus()))
+      .contains(__.map(CustomFunction.cypherStringPlus()))
+      .doesNotContain(__.map(CustomFunction.cypherPlus()))
+  }
+
+  @Test
+  def untypedPlus(): Unit = {
+    assertThat(parse("MATCH (n) RETURN n.a + n.b AS p"))
+      .contains(__.map(CustomFunction.cypherPlus()))
+  }
+
+  @Test
+  def stringSize(): Unit = {
+    assertThat(parse("RETURN size('abc') AS s"))
+      .contains(__.map(CustomFunction.cypherStringSize()))
+  }
+}
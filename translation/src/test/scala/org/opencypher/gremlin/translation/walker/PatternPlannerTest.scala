@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.walker
+
+import org.junit.Test
+import org.opencypher.gremlin.translation.CypherAst.parse
+import org.opencypher.gremlin.translation.Tokens.NULL
+import org.opencypher.gremlin.translation.ir.helpers.CypherAstAssert.{P, __}
+import org.opencypher.gremlin.translation.ir.helpers.CypherAstAssertions.assertThat
+import org.opencypher.gremlin.translation.translator.GraphStatistics
+
+class PatternPlannerTest {
+
+  @Test
+  def keepSelectiveStart(): Unit = {
+    assertThat(parse("""
+        |MATCH (a:A {p: 'a'})-[:R]->(b)
+        |RETURN b
+      """.stripMargin))
+      .contains(__.V().as("a").hasLabel("A"))
+      .doesNotContain(__.V().as("b"))
+  }
+
+  @Test
+  def reverseToSelectiveEnd(): Unit = {
+    assertThat(parse("""
+        |MATCH (a)-[:R]->(b:B {p: 'b'})
+        |RETURN a
+      """.stripMargin))
+      .contains(__.V().as("b").hasLabel("B"))
+      .contains(__.inE("R"))
+      .doesNotContain(__.V().as("a"))
+  }
+
+  @Test
+  def reverseToWhereFilter(): Unit = {
+    assertThat(parse("""
+        |MATCH (a:A)-[:R]->(b:B)
+        |WHERE b.p = 'b'
+        |RETURN a
+      """.stripMargin))
+      .contains(__.V().as("b").hasLabel("B"))
+  }
+
+  @Test
+  def splitAroundSelectiveNode(): Unit = {
+    assertThat(parse("""
+        |MATCH (a)-[:R]->(b:B {p: 'b'})-[:R]->(c)
+        |RETURN a, c
+      """.stripMargin))
+      .contains(__.V().as("b").hasLabel("B"))
+      .contains(__.select("b"))
+      .doesNotContain(__.V().as("a"))
+  }
+
+  @Test
+  def continueFromBoundNode(): Unit = {
+    assertThat(parse("""
+        |MATCH (a:A)
+        |WITH a
+        |MATCH (x:Tag {name: 't'})<-[:R]-(a)
+        |RETURN x
+      """.stripMargin))
+      .contains(__.where(__.select("a").is(P.neq(NULL))).select("a"))
+      .contains(__.outE("R"))
+      .doesNotContain(__.V().as("x"))
+  }
+
+  @Test
+  def labelCountStatistics(): Unit = {
+    val statistics = GraphStatistics
+      .builder()
+      .labelCount("Person", 1000000)
+      .labelCount("City", 100)
+      .build()
+    val ast = parse("""
+        |MATCH (p:Person)-[:LIVES_IN]->(c:City)
+        |RETURN p, c
+      """.stripMargin)
+
+    assertThat(ast)
+      .contains(__.V().as("p").hasLabel("Person"))
+    assertThat(ast)
+      .withStatistics(statistics)
+      .contains(__.V().as("c").hasLabel("City"))
+      .contains(__.inE("LIVES_IN"))
+  }
+
+  @Test
+  def indexedKeyStatistics(): Unit = {
+    val statistics = GraphStatistics
+      .builder()
+      .indexedKeys("email")
+      .build()
+    val ast = parse("""
+        |MATCH (a:Person {name: 'a'})-[:KNOWS]->(b:Person {email: 'b'})
+        |RETURN a, b
+      """.stripMargin)
+
+    assertThat(ast)
+      .contains(__.V().as("a").hasLabel("Person"))
+    assertThat(ast)
+      .withStatistics(statistics)
+      .contains(__.V().as("b").hasLabel("Person"))
+  }
+
+  @Test
+  def keepVariableLengthPatterns(): Unit = {
+    assertThat(parse("""
+        |MATCH (a)-[:R*1..2]->(b:B {p: 'b'})
+        |RETURN a
+      """.stripMargin))
+      .contains(__.V().as("a"))
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.walker
+
+import org.junit.Test
+import org.opencypher.gremlin.translation.CypherAst.parse
+import org.opencypher.gremlin.translation.ir.helpers.CypherAstAssert.{P, __}
+import org.opencypher.gremlin.translation.ir.helpers.CypherAstAssertions.assertThat
+import org.opencypher.gremlin.translation.translator.Translator
+
+class PatternWalkerTest {
+
+  @Test
+  def reachabilityBetweenBoundNodes(): Unit = {
+    assertThat(parse("""
+        |MATCH (a:A), (b:B)
+        |WHERE (a)-[:R*]->(b)
+        |RETURN a, b
+      """.stripMargin))
+      .contains(
+        __.select("a")
+          .repeat(__.outE("R").inV().dedup().barrier())
+          .emit(__.where(P.isEq("b")))
+          .times(Translator.DEFAULT_HOP_LIMIT)
+          .where(P.isEq("b"))
+          .limit(1))
+  }
+
+  @Test
+  def reachabilityWithUpperBound(): Unit = {
+    assertThat(parse("""
+        |MATCH (a:A), (b:B)
+        |WHERE NOT (a)<-[*..3]-(b)
+        |RETURN a, b
+      """.stripMargin))
+      .contains(__.select("a").repeat(__.inE().outV().dedup().barrier()))
+      .contains(__.times(3).where(P.isEq("b")).limit(1))
+  }
+
+  @Test
+  def undirectedReachabilityDoesNotGoBack(): Unit = {
+    assertThat(parse("""
+        |MATCH (a:A)
+        |WHERE (a)-[:R*]-(a)
+        |RETURN a
+      """.stripMargin))
+      .contains(__.bothE("R"))
+      .contains(__.otherV().dedup().barrier())
+      .contains(__.times(Translator.DEFAULT_HOP_LIMIT).where(P.isEq("a")).limit(1))
+  }
+
+  @Test
+  def pathsWithLowerBound(): Unit = {
+    assertThat(parse("""
+        |MATCH (a:A), (b:B)
+        |WHERE (a)-[*2..3]->(b)
+        |RETURN a, b
+      """.stripMargin))
+      .doesNotContain(__.dedup())
+  }
+}
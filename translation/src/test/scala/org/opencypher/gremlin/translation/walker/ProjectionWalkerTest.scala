@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2018-2019 "Neo4j, Inc." [https://neo4j.com]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opencypher.gremlin.translation.walker
+
+import org.junit.Test
+import org.opencypher.gremlin.translation.CypherAst.parse
+import org.opencypher.gremlin.translation.ir.helpers.CypherAstAssert.__
+import org.opencypher.gremlin.translation.ir.helpers.CypherAstAssertions.assertThat
+
+class ProjectionWalkerTest {
+
+  @Test
+  def groupedReduction(): Unit = {
+    assertThat(parse("MATCH (m) RETURN m.released AS released, avg(m.rating) AS rating"))
+      .contains(__.group())
+      .contains(__.mean())
+      .doesNotContain(__.fold())
+  }
+
+  @Test
+  def globalReduction(): Unit = {
+    assertThat(parse("MATCH (m) RETURN max(m.rating) AS rating"))
+      .contains(__.max())
+      .doesNotContain(__.fold())
+  }
+
+  @Test
+  def countStarReduction(): Unit = {
+    assertThat(parse("MATCH (m) RETURN count(*) AS c"))
+      .contains(__.count())
+      .doesNotContain(__.fold())
+  }
+
+  @Test
+  def multipleAggregations(): Unit = {
+    assertThat(parse("MATCH (m) RETURN min(m.rating) AS min, max(m.rating) AS max"))
+      .contains(__.fold())
+  }
+
+  @Test
+  def distinctAggregation(): Unit = {
+    assertThat(parse("MATCH (m) RETURN sum(DISTINCT m.rating) AS rating"))
+      .contains(__.fold())
+  }
+}